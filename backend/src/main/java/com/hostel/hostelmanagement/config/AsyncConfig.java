@@ -1,9 +1,83 @@
 package com.hostel.hostelmanagement.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
+
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+
+    // Dedicated pool for outgoing mail so a slow SMTP server cannot pile up unbounded work.
+    // When the queue is full the submitting thread sends the mail itself (caller-runs), which
+    // slows producers down instead of dropping mail or growing the heap.
+    // On shutdown the pool stops accepting work and waits for queued mail to be sent.
+    // The container starts the pool (afterPropertiesSet) once the bean is returned.
+    @Bean(name = NOTIFICATION_EXECUTOR)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor notificationExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${app.notifications.executor.core-size:2}") int coreSize,
+            @Value("${app.notifications.executor.max-size:4}") int maxSize,
+            @Value("${app.notifications.executor.queue-capacity:500}") int queueCapacity,
+            @Value("${app.notifications.executor.shutdown-timeout-seconds:30}") int shutdownTimeoutSeconds) {
+        Counter callerRuns = Counter.builder("notification.executor.caller.runs")
+                .description("Notifications sent on the submitting thread because the queue was full")
+                .register(meterRegistry);
+        ThreadPoolExecutor.CallerRunsPolicy callerRunsPolicy = new ThreadPoolExecutor.CallerRunsPolicy();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("notify-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            callerRuns.increment();
+            callerRunsPolicy.rejectedExecution(task, pool);
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(shutdownTimeoutSeconds);
+
+        Gauge.builder("notification.executor.queue.depth", executor,
+                        e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Notifications waiting for a sender thread")
+                .register(meterRegistry);
+        Gauge.builder("notification.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Sender threads currently talking to the mail server")
+                .register(meterRegistry);
+        return executor;
+    }
+
+    // With spring.threads.virtual.enabled=true (which also moves Tomcat and @Scheduled work onto
+    // virtual threads) each mail gets its own virtual thread instead of a pooled one. The
+    // concurrency limit still caps parallel SMTP sessions at max-size; further submissions wait,
+    // which gives the same back-pressure as caller-runs above.
+    @Bean(name = NOTIFICATION_EXECUTOR)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualNotificationExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${app.notifications.executor.max-size:4}") int maxSize,
+            @Value("${app.notifications.executor.shutdown-timeout-seconds:30}") int shutdownTimeoutSeconds) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("notify-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(maxSize);
+        executor.setTaskTerminationTimeout(shutdownTimeoutSeconds * 1000L);
+
+        Gauge.builder("notification.executor.throttled", executor, e -> e.isThrottleActive() ? 1 : 0)
+                .description("1 while the SMTP concurrency limit is in force")
+                .register(meterRegistry);
+        return executor;
+    }
 }
@@ -0,0 +1,18 @@
+package com.hostel.hostelmanagement.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    // Databases created before migrations existed (by Hibernate's ddl-auto) already match
+    // V1__baseline.sql, so they are marked as being at V1 and only later versions run on them.
+    @Bean
+    public FlywayConfigurationCustomizer baselineExistingSchema() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("1");
+    }
+}
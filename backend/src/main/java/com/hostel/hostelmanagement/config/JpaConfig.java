@@ -0,0 +1,23 @@
+package com.hostel.hostelmanagement.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    // Inserts and updates of the same entity go out as JDBC batches of batch-size statements.
+    // Ordering groups them by entity so a flush that mixes tickets and outbox rows still batches.
+    // Every id is a client-generated UUID, so nothing forces an insert to run on its own.
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatching(@Value("${app.jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.hostel.hostelmanagement.config;
+
+import com.hostel.hostelmanagement.service.QueryCounter;
+import com.hostel.hostelmanagement.service.RequestMetrics;
+import lombok.AllArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Feeds the performance breakdown served by MonitoringController (see PerformanceMonitor)
+@Configuration
+@AllArgsConstructor
+public class MonitoringConfig implements WebMvcConfigurer {
+
+    private final RequestMetrics requestMetrics;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestMetrics).addPathPatterns("/api/**");
+    }
+
+    // Hibernate's own counters (queries, entity loads, cache hits) plus per-request statement counts.
+    // Both are cheap counters; an explicitly configured statement inspector takes precedence.
+    @Bean
+    public HibernatePropertiesCustomizer hibernateStatistics() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.hostel.hostelmanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String REBUILD_EXECUTOR = "rebuildExecutor";
+
+    // Spring Boot's default scheduler has a single thread, so one slow @Scheduled job (an outbox
+    // poll waiting on SMTP, an index rebuild) would hold up every other job. Several threads let
+    // them run side by side; each job still never overlaps with itself (fixed delay).
+    // With virtual threads enabled Boot's own scheduler starts a virtual thread per run instead.
+    @Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskScheduler taskScheduler(
+            @Value("${app.scheduling.pool-size:4}") int poolSize,
+            @Value("${app.scheduling.shutdown-timeout-seconds:30}") int shutdownTimeoutSeconds) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setPoolSize(poolSize);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(shutdownTimeoutSeconds);
+        return scheduler;
+    }
+
+    // Full rebuilds of the in-memory read models (search index, hot spot counts) read the whole
+    // complaints table, which can take minutes; they run here rather than on a scheduler thread.
+    // A rebuild already queued is not queued again by its owner, so the queue stays small.
+    @Bean(name = REBUILD_EXECUTOR)
+    public ThreadPoolTaskExecutor rebuildExecutor(@Value("${app.scheduling.rebuild-threads:2}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("rebuild-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        return executor;
+    }
+}
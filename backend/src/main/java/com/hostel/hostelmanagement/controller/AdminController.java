@@ -1,21 +1,32 @@
 package com.hostel.hostelmanagement.controller;
 
+import com.hostel.hostelmanagement.dto.ComplaintCursor;
+import com.hostel.hostelmanagement.dto.ComplaintImportResultDto;
+import com.hostel.hostelmanagement.dto.ComplaintQuery;
 import com.hostel.hostelmanagement.dto.ComplaintResponseDto;
+import com.hostel.hostelmanagement.dto.CursorPage;
+import com.hostel.hostelmanagement.dto.DtoMapper;
 import com.hostel.hostelmanagement.dto.RegisterDto;
-import com.hostel.hostelmanagement.model.Complaint;
+import com.hostel.hostelmanagement.model.ComplaintView;
 import com.hostel.hostelmanagement.model.Role;
-import com.hostel.hostelmanagement.model.Ticket;
 import com.hostel.hostelmanagement.model.User;
-import com.hostel.hostelmanagement.repository.ComplaintRepository;
-import com.hostel.hostelmanagement.repository.TicketRepository;
+import com.hostel.hostelmanagement.repository.ComplaintViewRepository;
 import com.hostel.hostelmanagement.repository.UserRepository;
 import com.hostel.hostelmanagement.service.AuthService;
+import com.hostel.hostelmanagement.service.ComplaintExportService;
+import com.hostel.hostelmanagement.service.ComplaintImportService;
+import com.hostel.hostelmanagement.service.ComplaintViewProjector;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -25,8 +36,10 @@ public class AdminController {
 
     private final AuthService authService;
     private final UserRepository userRepository;
-    private final ComplaintRepository complaintRepository;
-    private final TicketRepository ticketRepository;
+    private final ComplaintViewRepository complaintViewRepository;
+    private final ComplaintViewProjector complaintViewProjector;
+    private final ComplaintExportService complaintExportService;
+    private final ComplaintImportService complaintImportService;
 
     // POST /api/admin/users
     @PostMapping("/users")
@@ -51,42 +64,54 @@ public class AdminController {
         return ResponseEntity.ok(userRepository.findByRole(userRole));
     }
 
-    // ✅ GET /api/admin/complaints/all — full complaint + ticket history
+    // ✅ GET /api/admin/complaints/all?status=&complaintType=&assignedTo=&cursor=&limit=
+    // Complaint + ticket history, one page per request (single query)
     @GetMapping("/complaints/all")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<ComplaintResponseDto>> getAllComplaints() {
-        List<Complaint> complaints = complaintRepository.findAllWithTicketData();
+    public ResponseEntity<CursorPage<ComplaintResponseDto>> getAllComplaints(@ModelAttribute ComplaintQuery query) {
+        int limit = query.effectiveLimit();
+        List<ComplaintView> history = complaintViewRepository.findPage(query, limit + 1);
 
-        List<ComplaintResponseDto> response = complaints.stream().map(c -> {
-            ComplaintResponseDto dto = new ComplaintResponseDto();
-            dto.setId(c.getId());
-            dto.setComplaintType(c.getComplaintType().toString());
-            dto.setCreatedAt(c.getCreatedAt());
-            dto.setLocation(c.getLocation());
-            dto.setDescription(c.getDescription());
-            dto.setStatus(c.getStatus().toString());
-
-            if (c.getAssignedTo() != null)
-                dto.setAssignedToName(c.getAssignedTo().getFullName());
-
-            if (c.getStudent() != null)
-                dto.setStudentName(c.getStudent().getFullName());
+        return ResponseEntity.ok(CursorPage.of(history, limit,
+                v -> new ComplaintCursor(v.getCreatedAt(), v.getComplaintId()).encode(),
+                DtoMapper::toComplaintResponseDto));
+    }
 
-            // 🔧 Safely fetch and set ticket details if present
-            ticketRepository.findByComplaintId(c.getId()).ifPresent(ticket -> {
-                dto.setTicketId(ticket.getId().toString());
+    // GET /api/admin/complaints/export?format=ndjson|csv (+ the same filters as /complaints/all)
+    // Streams the whole history straight to the response in batches, for offline analysis.
+    @GetMapping("/complaints/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportComplaints(@RequestParam(defaultValue = "ndjson") String format,
+                                 @ModelAttribute ComplaintQuery query,
+                                 HttpServletResponse response) throws IOException {
+        ComplaintExportService.Format exportFormat = ComplaintExportService.Format.parse(format);
 
-                if (ticket.getAssignedTo() != null)
-                    dto.setTicketAssignedTo(ticket.getAssignedTo().getFullName());
+        response.setContentType(exportFormat.contentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"complaints." + exportFormat.extension() + "\"");
 
-                dto.setResolvedAt(ticket.getResolvedAt());
-                dto.setResolutionNotes(ticket.getResolutionNotes());
-            });
+        complaintExportService.export(query, exportFormat, response.getOutputStream());
+    }
 
-            return dto;
-        }).toList();
+    // POST /api/admin/complaints/import?format=ndjson|csv
+    // Body: one complaint per line/record (studentEmail, complaintType, location, description, and
+    // optionally status, which must be SUBMITTED, and createdAt). Read as a stream and inserted in
+    // batches; rows that cannot be imported are listed in the result instead of failing the import.
+    @PostMapping("/complaints/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ComplaintImportResultDto> importComplaints(@RequestParam(defaultValue = "ndjson") String format,
+                                                                     HttpServletRequest request) throws IOException {
+        ComplaintExportService.Format importFormat = ComplaintExportService.Format.parse(format);
+        return ResponseEntity.ok(complaintImportService.importComplaints(importFormat, request.getInputStream()));
+    }
 
-        return ResponseEntity.ok(response);
+    // POST /api/admin/complaint-view/rebuild
+    // Regenerates the complaint_view read model from complaints, tickets and users; returns the row count
+    @PostMapping("/complaint-view/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Integer> rebuildComplaintView() {
+        return ResponseEntity.ok(complaintViewProjector.rebuild());
     }
 
 
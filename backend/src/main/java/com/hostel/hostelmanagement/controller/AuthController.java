@@ -1,24 +1,30 @@
 package com.hostel.hostelmanagement.controller;
 
+import com.hostel.hostelmanagement.dto.LoginDto;
 import com.hostel.hostelmanagement.dto.RegisterDto;
+import com.hostel.hostelmanagement.dto.TokenResponseDto;
 import com.hostel.hostelmanagement.dto.UserDto;
-import com.hostel.hostelmanagement.model.User;
+import com.hostel.hostelmanagement.security.AuthenticatedUser;
 import com.hostel.hostelmanagement.service.AuthService;
-import com.hostel.hostelmanagement.repository.UserRepository;
+import com.hostel.hostelmanagement.security.TokenService;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
+
 @RestController
 @RequestMapping("/api/auth")
 @AllArgsConstructor
 public class AuthController {
 
     private final AuthService authService;
-    private final UserRepository userRepository;
+    private final AuthenticationManager authenticationManager;
+    private final TokenService tokenService;
 
     // POST /api/auth/register
     @PostMapping("/register")
@@ -27,18 +33,33 @@ public class AuthController {
         return new ResponseEntity<>("Student registered successfully!", HttpStatus.CREATED);
     }
 
+    // POST /api/auth/login — exchange credentials once for a signed bearer token.
+    // Later requests send "Authorization: Bearer <token>" and skip the BCrypt check and user lookup.
+    @PostMapping("/login")
+    public ResponseEntity<TokenResponseDto> login(@RequestBody LoginDto loginDto) {
+        AuthenticatedUser user = (AuthenticatedUser) authenticationManager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(loginDto.getEmail(), loginDto.getPassword()))
+                .getPrincipal();
+
+        Instant expiresAt = tokenService.nextExpiry();
+        String token = tokenService.issue(user.getId(), user.getEmail(), user.getFullName(), user.getRole(), expiresAt);
+
+        return ResponseEntity.ok(new TokenResponseDto(token, "Bearer", expiresAt, toDto(user)));
+    }
+
+    // GET /api/auth/me — answered from the principal, without a lookup
     @GetMapping("/me")
-    public ResponseEntity<UserDto> getCurrentUser(@AuthenticationPrincipal UserDetails userDetails) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public ResponseEntity<UserDto> getCurrentUser(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(toDto(user));
+    }
 
+    private UserDto toDto(AuthenticatedUser user) {
         UserDto dto = new UserDto();
         dto.setId(user.getId());
         dto.setFullName(user.getFullName());  // assuming your User entity uses `name`
         dto.setEmail(user.getEmail());
         dto.setRole(user.getRole());
-
-        return ResponseEntity.ok(dto);
+        return dto;
     }
 
 }
@@ -1,23 +1,26 @@
 package com.hostel.hostelmanagement.controller;
 
 import com.hostel.hostelmanagement.dto.CleaningTaskDto;
+import com.hostel.hostelmanagement.dto.ComplaintCursor;
 import com.hostel.hostelmanagement.dto.ComplaintDto;
+import com.hostel.hostelmanagement.dto.ComplaintQuery;
+import com.hostel.hostelmanagement.dto.CursorPage;
+import com.hostel.hostelmanagement.dto.DtoMapper;
 import com.hostel.hostelmanagement.model.Complaint;
+import com.hostel.hostelmanagement.model.ComplaintView;
 import com.hostel.hostelmanagement.model.ComplaintStatus;
-import com.hostel.hostelmanagement.model.User;
-import com.hostel.hostelmanagement.repository.UserRepository;
+import com.hostel.hostelmanagement.security.AuthenticatedUser;
 import com.hostel.hostelmanagement.service.EmployeeService;
-import com.hostel.hostelmanagement.repository.ComplaintRepository;
+import com.hostel.hostelmanagement.repository.ComplaintViewRepository;
 
 import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/cleaner")
@@ -26,66 +29,35 @@ import java.util.stream.Collectors;
 public class CleanerController {
 
     private final EmployeeService employeeService;
-    private final UserRepository userRepository;
-    private final ComplaintRepository complaintRepository;
+    private final ComplaintViewRepository complaintViewRepository;
 
+    // GET /api/cleaner/tasks?status=&complaintType=&cursor=&limit=
+    // Always the calling cleaner's own tasks
     @GetMapping("/tasks")
-    public ResponseEntity<List<CleaningTaskDto>> getAssignedCleaningTasks(@RequestParam UUID cleanerId) {
-        List<Complaint> complaints = complaintRepository.findByAssignedToIdAndStatus(
-                cleanerId,
-                ComplaintStatus.IN_PROGRESS
-        );
-
-        List<CleaningTaskDto> dtos = complaints.stream()
-                .map(this::mapToCleaningTaskDto)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<CursorPage<CleaningTaskDto>> getAssignedCleaningTasks(@AuthenticationPrincipal AuthenticatedUser cleaner,
+                                                                                @ModelAttribute ComplaintQuery query) {
+        query.setAssignedTo(cleaner.getId());
+        if (query.getStatus() == null) {
+            query.setStatus(ComplaintStatus.IN_PROGRESS);
+        }
+        int limit = query.effectiveLimit();
+        List<ComplaintView> complaints = complaintViewRepository.findPage(query, limit + 1);
+
+        return ResponseEntity.ok(CursorPage.of(complaints, limit,
+                v -> new ComplaintCursor(v.getCreatedAt(), v.getComplaintId()).encode(),
+                DtoMapper::toCleaningTaskDto));
     }
 
-    private CleaningTaskDto mapToCleaningTaskDto(Complaint complaint) {
-        return new CleaningTaskDto(
-                complaint.getId(),
-                complaint.getComplaintType().toString(),
-                complaint.getDescription(),
-                complaint.getLocation(),
-                complaint.getCreatedAt()
-        );
-    }
 
     // POST /api/cleaner/tasks/{complaintId}/complete
     @PostMapping("/tasks/{complaintId}/complete")
     public ResponseEntity<ComplaintDto> completeCleaningTask(@PathVariable UUID complaintId) {
-        Complaint complaint = complaintRepository.findById(complaintId)
-                .orElseThrow(() -> new RuntimeException("Complaint not found"));
+        Complaint complaint = employeeService.completeCleaningTask(complaintId);
 
-        complaint.setStatus(ComplaintStatus.COMPLETED);
-        complaintRepository.save(complaint);
-
-        ComplaintDto dto = mapToDto(complaint);
+        ComplaintDto dto = DtoMapper.toComplaintDto(complaint);
         return ResponseEntity.ok(dto);
     }
 
-    private ComplaintDto mapToDto(Complaint complaint) {
-        ComplaintDto dto = new ComplaintDto();
-        dto.setId(complaint.getId());
-        dto.setStudentId(
-                complaint.getStudent() != null ? complaint.getStudent().getId() : null
-        );
-        dto.setAssignedToId(
-                complaint.getAssignedTo() != null ? complaint.getAssignedTo().getId() : null
-        );
-        dto.setStudentName(
-                complaint.getStudent() != null ? complaint.getStudent().getFullName() : null
-        );
-        dto.setComplaintType(complaint.getComplaintType());
-        dto.setLocation(complaint.getLocation());
-        dto.setDescription(complaint.getDescription());
-        dto.setStatus(complaint.getStatus());
-        dto.setCreatedAt(complaint.getCreatedAt());
-        dto.setUpdatedAt(complaint.getUpdatedAt());
-        return dto;
-    }
 
 
 }
@@ -1,7 +1,9 @@
 package com.hostel.hostelmanagement.controller;
 
+import com.hostel.hostelmanagement.dto.ComplaintQuery;
 import com.hostel.hostelmanagement.dto.ComplaintRequestDto;
 import com.hostel.hostelmanagement.dto.ComplaintResponseDto;
+import com.hostel.hostelmanagement.dto.CursorPage;
 import com.hostel.hostelmanagement.model.Complaint;
 import com.hostel.hostelmanagement.service.ComplaintService;
 import lombok.AllArgsConstructor;
@@ -10,8 +12,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/complaints")
 @AllArgsConstructor
@@ -27,10 +27,11 @@ public class ComplaintController {
         return new ResponseEntity<>(newComplaint, HttpStatus.CREATED);
     }
 
+    // GET /api/complaints/my-complaints?status=&complaintType=&cursor=&limit=
     @GetMapping("/my-complaints")
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<List<ComplaintResponseDto>> getMyComplaints() {
-        List<ComplaintResponseDto> complaints = complaintService.getComplaintsForCurrentUser();
+    public ResponseEntity<CursorPage<ComplaintResponseDto>> getMyComplaints(@ModelAttribute ComplaintQuery query) {
+        CursorPage<ComplaintResponseDto> complaints = complaintService.getComplaintsForCurrentUser(query);
         return ResponseEntity.ok(complaints);
     }
 }
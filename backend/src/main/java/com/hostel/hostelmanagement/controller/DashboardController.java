@@ -1,14 +1,20 @@
 package com.hostel.hostelmanagement.controller;
 
 import com.hostel.hostelmanagement.dto.DashboardStatsDto;
+import com.hostel.hostelmanagement.dto.HotSpotDto;
+import com.hostel.hostelmanagement.model.ComplaintType;
 import com.hostel.hostelmanagement.service.DashboardService;
+import com.hostel.hostelmanagement.service.HotSpotService;
 import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/dashboard")
 @AllArgsConstructor
@@ -16,9 +22,21 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final HotSpotService hotSpotService;
 
     @GetMapping("/stats")
     public ResponseEntity<DashboardStatsDto> getStats() {
         return ResponseEntity.ok(dashboardService.getDashboardStats());
     }
+
+    // GET /api/dashboard/hotspots?granularity=HOUR|DAY|WEEK&periods=1&scope=LOCATION|BLOCK&complaintType=&limit=10
+    // Locations with the most complaints over the last periods hours/days/weeks, served from memory
+    @GetMapping("/hotspots")
+    public ResponseEntity<List<HotSpotDto>> getHotSpots(@RequestParam(defaultValue = "WEEK") HotSpotService.Granularity granularity,
+                                                        @RequestParam(defaultValue = "1") int periods,
+                                                        @RequestParam(defaultValue = "LOCATION") HotSpotService.Scope scope,
+                                                        @RequestParam(required = false) ComplaintType complaintType,
+                                                        @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(hotSpotService.top(granularity, periods, scope, complaintType, limit));
+    }
 }
@@ -1,6 +1,7 @@
 package com.hostel.hostelmanagement.controller;
 
 import com.hostel.hostelmanagement.dto.TicketDto;
+import com.hostel.hostelmanagement.dto.DtoMapper;
 import com.hostel.hostelmanagement.dto.TicketResolutionDto;
 import com.hostel.hostelmanagement.model.Ticket;
 import com.hostel.hostelmanagement.service.EmployeeService;
@@ -23,10 +24,7 @@ public class ElectricianController {
     // GET /api/electrician/tickets
     @GetMapping("/tickets")
     public ResponseEntity<List<TicketDto>> getMyTickets() {
-        List<TicketDto> tickets = employeeService.getAssignedTickets()
-                .stream()
-                .map(this::mapToDto)
-                .toList();
+        List<TicketDto> tickets = employeeService.getAssignedTickets();
         return ResponseEntity.ok(tickets);
     }
 
@@ -34,28 +32,8 @@ public class ElectricianController {
     @PatchMapping("/tickets/{ticketId}/resolve")
     public ResponseEntity<TicketDto> resolveTicket(@PathVariable UUID ticketId, @RequestBody TicketResolutionDto resolutionDto) {
         Ticket ticket = employeeService.resolveTicket(ticketId, resolutionDto);
-        TicketDto dto = mapToDto(ticket);
+        TicketDto dto = DtoMapper.toTicketDto(ticket);
         return ResponseEntity.ok(dto);
     }
 
-    private TicketDto mapToDto(Ticket ticket) {
-        TicketDto dto = new TicketDto();
-        dto.setId(ticket.getId());
-        dto.setTicketNumber(ticket.getTicketNumber());
-        dto.setStatus(ticket.getStatus());
-        dto.setCreatedAt(ticket.getCreatedAt());
-        dto.setResolvedAt(ticket.getResolvedAt());
-
-        dto.setComplaintId(UUID.fromString(ticket.getComplaint().getId().toString()));
-        dto.setComplaintDescription(ticket.getComplaint().getDescription());
-        dto.setComplaintType(ticket.getComplaint().getComplaintType().name());
-
-        dto.setAssignedToId(ticket.getAssignedTo().getId());
-        dto.setAssignedToName(ticket.getAssignedTo().getFullName());
-
-        dto.setWardenId(ticket.getWarden().getId());
-        dto.setWardenName(ticket.getWarden().getFullName());
-
-        return dto;
-    }
 }
@@ -0,0 +1,27 @@
+package com.hostel.hostelmanagement.controller;
+
+import com.hostel.hostelmanagement.security.AuthenticatedUser;
+import com.hostel.hostelmanagement.service.ChangeEventBroadcaster;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+@AllArgsConstructor
+public class EventStreamController {
+
+    private final ChangeEventBroadcaster changeEventBroadcaster;
+
+    // GET /api/events/stream  (text/event-stream)
+    // "complaint" and "ticket" events carry the status change as JSON; "resync" means events
+    // were dropped and the client should reload its lists.
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal AuthenticatedUser user) {
+        return changeEventBroadcaster.subscribe(user.getId(), user.getRole());
+    }
+}
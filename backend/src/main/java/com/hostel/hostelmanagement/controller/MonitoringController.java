@@ -1,8 +1,10 @@
 package com.hostel.hostelmanagement.controller;
 
+import com.hostel.hostelmanagement.service.PerfSnapshotStore;
+import com.hostel.hostelmanagement.service.PerformanceMonitor;
+import com.hostel.hostelmanagement.service.ResolutionLatencyMetrics;
+import com.hostel.hostelmanagement.service.UserCache;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.actuate.metrics.MetricsEndpoint;
-import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -14,31 +16,53 @@ import java.util.Map;
 public class MonitoringController {
 
     @Autowired
-    private HealthEndpoint healthEndpoint;
+    private PerfSnapshotStore perfSnapshotStore;
 
     @Autowired
-    private MetricsEndpoint metricsEndpoint;
+    private ResolutionLatencyMetrics resolutionLatencyMetrics;
+
+    @Autowired
+    private PerformanceMonitor performanceMonitor;
+
+    @Autowired
+    private UserCache userCache;
 
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
-    public Map<String, Object> getPerformanceStats() {
+    public Map<String, Object> getPerformanceStats(@RequestParam(required = false) Integer minutes) {
         Map<String, Object> response = new HashMap<>();
+        // 1-5 come from the last background sample, not from a health check per request
+        PerfSnapshotStore.Latest latest = perfSnapshotStore.latest();
 
         // 1. Health status (includes DB, disk, etc.)
-        response.put("health", healthEndpoint.health());
+        response.put("health", latest.health());
 
         // 2. Uptime
-        response.put("uptime", metricsEndpoint.metric("process.uptime", null));
+        response.put("uptime", latest.uptime());
 
         // 3. Memory usage
-        response.put("memUsed", metricsEndpoint.metric("jvm.memory.used", null));
-        response.put("memMax", metricsEndpoint.metric("jvm.memory.max", null));
+        response.put("memUsed", latest.memUsed());
+        response.put("memMax", latest.memMax());
 
         // 4. CPU usage
-        response.put("cpu", metricsEndpoint.metric("system.cpu.usage", null));
+        response.put("cpu", latest.cpu());
 
         // 5. HTTP request count
-        response.put("httpCount", metricsEndpoint.metric("http.server.requests", null));
+        response.put("httpCount", latest.httpCount());
+        response.put("sampledAt", latest.snapshot().sampledAt());
+
+        // 6. Complaint resolution times per type and employee (submit -> assign -> resolve)
+        response.put("resolutionLatency", resolutionLatencyMetrics.summaries());
+
+        // 7. Per-endpoint/role latency, Hibernate, connection pool and notification queue,
+        //    over the monitor's rolling window (sampled in the background)
+        response.put("breakdown", performanceMonitor.breakdown());
+
+        // 8. Samples of 1-5 over the last `minutes` (default: everything kept), oldest first
+        response.put("history", perfSnapshotStore.history(minutes));
+
+        // 9. User cache hits, misses and size, per lookup
+        response.put("userCache", userCache.summaries());
 
         return response;
     }
@@ -1,10 +1,18 @@
 package com.hostel.hostelmanagement.controller;
 
+import com.hostel.hostelmanagement.dto.BulkAssignmentRequestDto;
 import com.hostel.hostelmanagement.dto.ComplaintDto;
+import com.hostel.hostelmanagement.dto.ComplaintQuery;
+import com.hostel.hostelmanagement.dto.ComplaintSearchResultDto;
+import com.hostel.hostelmanagement.dto.CursorPage;
+import com.hostel.hostelmanagement.dto.DtoMapper;
 import com.hostel.hostelmanagement.dto.TicketDto;
 import com.hostel.hostelmanagement.dto.TicketRequestDto;
 import com.hostel.hostelmanagement.dto.UserDto;
 import com.hostel.hostelmanagement.model.Complaint;
+import com.hostel.hostelmanagement.model.ComplaintStatus;
+import com.hostel.hostelmanagement.model.ComplaintType;
+import com.hostel.hostelmanagement.service.ComplaintSearchService;
 import com.hostel.hostelmanagement.service.WardenService;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -22,15 +30,26 @@ import java.util.UUID;
 public class WardenController {
 
     private final WardenService wardenService;
+    private final ComplaintSearchService complaintSearchService;
 
-    // GET /api/warden/complaints
+    // GET /api/warden/complaints?status=&complaintType=&assignedTo=&cursor=&limit=
     @GetMapping("/complaints")
-    public ResponseEntity<List<ComplaintDto>> getAllComplaints() {
-        List<ComplaintDto> complaints = wardenService.viewAllComplaints();
+    public ResponseEntity<CursorPage<ComplaintDto>> getAllComplaints(@ModelAttribute ComplaintQuery query) {
+        CursorPage<ComplaintDto> complaints = wardenService.viewAllComplaints(query);
         return ResponseEntity.ok(complaints);
     }
 
 
+    // GET /api/warden/complaints/search?q=&complaintType=&status=&limit=
+    // Complaints whose description and location contain every word of q, newest first
+    @GetMapping("/complaints/search")
+    public ResponseEntity<ComplaintSearchResultDto> searchComplaints(@RequestParam String q,
+                                                                     @RequestParam(required = false) ComplaintType complaintType,
+                                                                     @RequestParam(required = false) ComplaintStatus status,
+                                                                     @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(complaintSearchService.search(q, complaintType, status, limit));
+    }
+
     // POST /api/warden/tickets
     @PostMapping("/tickets")
     public ResponseEntity<TicketDto> generateTicket(@RequestBody TicketRequestDto ticketRequestDto) {
@@ -44,11 +63,31 @@ public class WardenController {
             @RequestParam UUID cleanerId
     ) {
         Complaint updatedComplaint = wardenService.approveCleaningComplaint(complaintId, cleanerId);
-        ComplaintDto dto = wardenService.mapToDTO(updatedComplaint);
+        ComplaintDto dto = DtoMapper.toComplaintDto(updatedComplaint);
         return ResponseEntity.ok(dto);
     }
 
 
+    // POST /api/warden/complaints/approve-cleaning
+    // {"assignments": [{"complaintId": "...", "assigneeId": "<cleaner id>"}, ...]}
+    @PostMapping("/complaints/approve-cleaning")
+    public ResponseEntity<List<ComplaintDto>> approveCleaningBulk(@RequestBody BulkAssignmentRequestDto request) {
+        List<ComplaintDto> complaints = wardenService.approveCleaningComplaints(request.getAssignments())
+                .stream()
+                .map(DtoMapper::toComplaintDto)
+                .toList();
+        return ResponseEntity.ok(complaints);
+    }
+
+    // POST /api/warden/tickets/bulk
+    // {"assignments": [{"complaintId": "...", "assigneeId": "<electrician id>"}, ...]}
+    @PostMapping("/tickets/bulk")
+    public ResponseEntity<List<TicketDto>> generateTickets(@RequestBody BulkAssignmentRequestDto request) {
+        List<TicketDto> tickets = wardenService.createTickets(request.getAssignments());
+        return new ResponseEntity<>(tickets, HttpStatus.CREATED);
+    }
+
+
     // GET /api/warden/cleaners
     @GetMapping("/cleaners")
     public ResponseEntity<List<UserDto>> getAllCleaners() {
@@ -0,0 +1,17 @@
+package com.hostel.hostelmanagement.dto;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+// Body of the bulk assignment endpoints: which complaint goes to which cleaner or electrician.
+@Data
+public class BulkAssignmentRequestDto {
+    public static final int MAX_ASSIGNMENTS = 1000;
+
+    private List<Assignment> assignments;
+
+    public record Assignment(UUID complaintId, UUID assigneeId) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.hostel.hostelmanagement.dto;
+
+import java.util.List;
+
+// Outcome of a bulk complaint import. Only the first errors are listed (errorsTruncated tells
+// whether there were more); failed always counts every rejected row.
+public record ComplaintImportResultDto(
+        long imported,
+        long failed,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+
+    // row is the 1-based position of the record in the input, not counting the CSV header
+    public record RowError(long row, String message) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.hostel.hostelmanagement.dto;
+
+import com.hostel.hostelmanagement.model.ComplaintStatus;
+import com.hostel.hostelmanagement.model.ComplaintType;
+import lombok.Data;
+
+import java.util.UUID;
+
+// Filters and page position for complaint listings, bound from query parameters
+// (?status=&complaintType=&assignedTo=&cursor=&limit=).
+@Data
+public class ComplaintQuery {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private ComplaintStatus status;
+    private ComplaintType complaintType;
+    private UUID assignedTo;
+    private UUID studentId;      // Always set server-side for student listings
+    private String cursor;
+    private Integer limit;
+
+    public int effectiveLimit() {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public ComplaintCursor after() {
+        return cursor == null || cursor.isBlank() ? null : ComplaintCursor.decode(cursor);
+    }
+}
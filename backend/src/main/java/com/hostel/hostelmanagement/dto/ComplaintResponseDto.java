@@ -1,11 +1,13 @@
 package com.hostel.hostelmanagement.dto;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Data
+@NoArgsConstructor
 public class ComplaintResponseDto {
     private UUID id;
     private String complaintType;
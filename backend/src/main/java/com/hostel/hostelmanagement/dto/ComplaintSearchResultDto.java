@@ -0,0 +1,7 @@
+package com.hostel.hostelmanagement.dto;
+
+import java.util.List;
+
+// Newest matches first; totalMatches counts every match, not just the ones returned
+public record ComplaintSearchResultDto(int totalMatches, List<ComplaintDto> items) {
+}
@@ -0,0 +1,20 @@
+package com.hostel.hostelmanagement.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+// One page of a keyset-paginated listing. nextCursor is null on the last page.
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+
+    // rows must have been fetched with limit + 1 so we can tell whether another page exists.
+    public static <E, T> CursorPage<T> of(List<E> rows, int limit,
+                                          Function<E, String> cursorOf, Function<E, T> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,146 @@
+package com.hostel.hostelmanagement.dto;
+
+import com.hostel.hostelmanagement.model.Complaint;
+import com.hostel.hostelmanagement.model.ComplaintView;
+import com.hostel.hostelmanagement.model.Ticket;
+
+// Entity-to-DTO mapping shared by the services and controllers (and benchmarked in the
+// benchmarks module), so each read path maps the same way. Listings map from the complaint_view
+// read model; the Complaint/Ticket versions are for the responses of write endpoints.
+public final class DtoMapper {
+
+    private DtoMapper() {
+    }
+
+    public static ComplaintDto toComplaintDto(Complaint complaint) {
+        ComplaintDto dto = new ComplaintDto();
+        dto.setId(complaint.getId());
+        if (complaint.getStudent() != null) {
+            dto.setStudentId(complaint.getStudent().getId());
+            dto.setStudentName(complaint.getStudent().getFullName());
+        }
+        if (complaint.getAssignedTo() != null) {
+            dto.setAssignedToId(complaint.getAssignedTo().getId());
+        }
+        dto.setComplaintType(complaint.getComplaintType());
+        dto.setLocation(complaint.getLocation());
+        dto.setDescription(complaint.getDescription());
+        dto.setStatus(complaint.getStatus());
+        dto.setCreatedAt(complaint.getCreatedAt());
+        dto.setUpdatedAt(complaint.getUpdatedAt());
+        return dto;
+    }
+
+    public static ComplaintResponseDto toComplaintResponseDto(Complaint complaint) {
+        ComplaintResponseDto dto = new ComplaintResponseDto();
+        dto.setId(complaint.getId());
+        dto.setComplaintType(String.valueOf(complaint.getComplaintType()));
+        dto.setLocation(complaint.getLocation());
+        dto.setDescription(complaint.getDescription());
+        dto.setStatus(complaint.getStatus().name());
+        dto.setCreatedAt(complaint.getCreatedAt());
+        if (complaint.getAssignedTo() != null) {
+            dto.setAssignedToName(complaint.getAssignedTo().getFullName());
+        }
+        dto.setStudentName(complaint.getStudent().getFullName());
+        return dto;
+    }
+
+    public static CleaningTaskDto toCleaningTaskDto(Complaint complaint) {
+        return new CleaningTaskDto(
+                complaint.getId(),
+                complaint.getComplaintType().toString(),
+                complaint.getDescription(),
+                complaint.getLocation(),
+                complaint.getCreatedAt()
+        );
+    }
+
+    public static TicketDto toTicketDto(Ticket ticket) {
+        TicketDto dto = new TicketDto();
+        dto.setId(ticket.getId());
+        dto.setTicketNumber(ticket.getTicketNumber());
+
+        dto.setComplaintId(ticket.getComplaint().getId());
+        dto.setComplaintDescription(ticket.getComplaint().getDescription());
+        dto.setComplaintType(ticket.getComplaint().getComplaintType().name());
+
+        dto.setAssignedToId(ticket.getAssignedTo().getId());
+        dto.setAssignedToName(ticket.getAssignedTo().getFullName());
+
+        dto.setWardenId(ticket.getWarden().getId());
+        dto.setWardenName(ticket.getWarden().getFullName());
+
+        dto.setStatus(ticket.getStatus());
+        dto.setResolutionNotes(ticket.getResolutionNotes());
+        dto.setCreatedAt(ticket.getCreatedAt());
+        dto.setResolvedAt(ticket.getResolvedAt());
+        return dto;
+    }
+
+    public static ComplaintDto toComplaintDto(ComplaintView view) {
+        ComplaintDto dto = new ComplaintDto();
+        dto.setId(view.getComplaintId());
+        dto.setStudentId(view.getStudentId());
+        dto.setStudentName(view.getStudentName());
+        dto.setAssignedToId(view.getAssignedToId());
+        dto.setComplaintType(view.getComplaintType());
+        dto.setLocation(view.getLocation());
+        dto.setDescription(view.getDescription());
+        dto.setStatus(view.getStatus());
+        dto.setTicketStatus(view.getTicketStatus());
+        dto.setCreatedAt(view.getCreatedAt());
+        dto.setUpdatedAt(view.getUpdatedAt());
+        return dto;
+    }
+
+    public static ComplaintResponseDto toComplaintResponseDto(ComplaintView view) {
+        ComplaintResponseDto dto = new ComplaintResponseDto();
+        dto.setId(view.getComplaintId());
+        dto.setComplaintType(view.getComplaintType().toString());
+        dto.setCreatedAt(view.getCreatedAt());
+        dto.setLocation(view.getLocation());
+        dto.setDescription(view.getDescription());
+        dto.setStatus(view.getStatus().toString());
+        dto.setAssignedToName(view.getAssignedToName());
+        dto.setStudentName(view.getStudentName());
+        dto.setTicketId(view.getTicketId() != null ? view.getTicketId().toString() : null);
+        dto.setTicketAssignedTo(view.getTicketAssignedToName());
+        dto.setResolvedAt(view.getResolvedAt());
+        dto.setResolutionNotes(view.getResolutionNotes());
+        return dto;
+    }
+
+    public static CleaningTaskDto toCleaningTaskDto(ComplaintView view) {
+        return new CleaningTaskDto(
+                view.getComplaintId(),
+                view.getComplaintType().toString(),
+                view.getDescription(),
+                view.getLocation(),
+                view.getCreatedAt()
+        );
+    }
+
+    // Only for rows that have a ticket
+    public static TicketDto toTicketDto(ComplaintView view) {
+        TicketDto dto = new TicketDto();
+        dto.setId(view.getTicketId());
+        dto.setTicketNumber(view.getTicketNumber());
+
+        dto.setComplaintId(view.getComplaintId());
+        dto.setComplaintDescription(view.getDescription());
+        dto.setComplaintType(view.getComplaintType().name());
+
+        dto.setAssignedToId(view.getTicketAssignedToId());
+        dto.setAssignedToName(view.getTicketAssignedToName());
+
+        dto.setWardenId(view.getTicketWardenId());
+        dto.setWardenName(view.getTicketWardenName());
+
+        dto.setStatus(view.getTicketStatus());
+        dto.setResolutionNotes(view.getResolutionNotes());
+        dto.setCreatedAt(view.getTicketCreatedAt());
+        dto.setResolvedAt(view.getResolvedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,12 @@
+package com.hostel.hostelmanagement.dto;
+
+import com.hostel.hostelmanagement.model.ComplaintType;
+
+// A location and how many complaints it had in the requested window.
+// complaintType is null when the count covers every type.
+public record HotSpotDto(
+        String location,
+        ComplaintType complaintType,
+        long complaints
+) {
+}
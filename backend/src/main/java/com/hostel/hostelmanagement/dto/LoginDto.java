@@ -0,0 +1,9 @@
+package com.hostel.hostelmanagement.dto;
+
+import lombok.Data;
+
+@Data
+public class LoginDto {
+    private String email;
+    private String password;
+}
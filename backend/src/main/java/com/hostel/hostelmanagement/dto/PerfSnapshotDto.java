@@ -0,0 +1,17 @@
+package com.hostel.hostelmanagement.dto;
+
+import java.time.LocalDateTime;
+
+// One point of the admin perf page's trend charts, as sampled by PerfSnapshotStore.
+// httpRequests is the cumulative count since startup; a null value means the metric was
+// not available when the sample was taken.
+public record PerfSnapshotDto(
+        LocalDateTime sampledAt,
+        String status,
+        Double uptimeSeconds,
+        Double memUsedBytes,
+        Double memMaxBytes,
+        Double cpuUsage,
+        Double httpRequests
+) {
+}
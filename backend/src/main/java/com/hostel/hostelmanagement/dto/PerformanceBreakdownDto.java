@@ -0,0 +1,39 @@
+package com.hostel.hostelmanagement.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Where request time goes over the last windowSeconds, as sampled by PerformanceMonitor.
+// Times are in milliseconds; counts are for the window. A null wait time means there was
+// nothing to measure in the window.
+public record PerformanceBreakdownDto(
+        LocalDateTime sampledAt,
+        long windowSeconds,
+        List<Endpoint> endpoints,
+        Hibernate hibernate,
+        ConnectionPool connectionPool,
+        Notifications notifications
+) {
+
+    // One endpoint as called by one role; the percentiles and max are Micrometer's rolling ones
+    public record Endpoint(String method, String uri, String role, long requests, double meanMs,
+                           double p50Ms, double p95Ms, double p99Ms, double maxMs, double queriesPerRequest) {
+    }
+
+    // No second-level cache is configured; cached user lookups are reported under userCache instead
+    public record Hibernate(long queries, long statements, long entityLoads, long entityFetches,
+                            long collectionLoads, List<SlowQuery> slowestQueries) {
+    }
+
+    // maxMs is the slowest execution since startup; Hibernate keeps no per-window maximum
+    public record SlowQuery(String query, long executions, double meanMs, long maxMs) {
+    }
+
+    public record ConnectionPool(long acquisitions, Double meanWaitMs, double maxWaitMs, int pendingThreads,
+                                 int activeConnections) {
+    }
+
+    // executorQueueDepth is null when mail runs on virtual threads, which have no queue
+    public record Notifications(Integer executorQueueDepth, long outboxPending) {
+    }
+}
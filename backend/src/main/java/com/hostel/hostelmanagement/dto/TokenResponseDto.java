@@ -0,0 +1,15 @@
+package com.hostel.hostelmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class TokenResponseDto {
+    private String token;
+    private String tokenType;    // Always "Bearer"
+    private Instant expiresAt;
+    private UserDto user;
+}
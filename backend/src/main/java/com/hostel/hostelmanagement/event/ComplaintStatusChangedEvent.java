@@ -0,0 +1,27 @@
+package com.hostel.hostelmanagement.event;
+
+import com.hostel.hostelmanagement.model.Complaint;
+import com.hostel.hostelmanagement.model.ComplaintStatus;
+import com.hostel.hostelmanagement.model.ComplaintType;
+
+import java.util.UUID;
+
+// Published whenever a complaint is created (previousStatus == null) or changes status.
+// studentId and assignedToId (null while unassigned) say whose dashboards the change concerns.
+public record ComplaintStatusChangedEvent(
+        UUID complaintId,
+        ComplaintType complaintType,
+        UUID studentId,
+        UUID assignedToId,
+        ComplaintStatus previousStatus,
+        ComplaintStatus newStatus
+) {
+
+    // The change that just moved complaint from previousStatus to its current status
+    public static ComplaintStatusChangedEvent of(Complaint complaint, ComplaintStatus previousStatus) {
+        return new ComplaintStatusChangedEvent(complaint.getId(), complaint.getComplaintType(),
+                complaint.getStudent().getId(),
+                complaint.getAssignedTo() == null ? null : complaint.getAssignedTo().getId(),
+                previousStatus, complaint.getStatus());
+    }
+}
@@ -0,0 +1,25 @@
+package com.hostel.hostelmanagement.event;
+
+import com.hostel.hostelmanagement.model.Ticket;
+import com.hostel.hostelmanagement.model.TicketStatus;
+
+import java.util.UUID;
+
+// Published whenever a ticket is created (previousStatus == null) or changes status.
+// studentId is the complaint's student and assignedToId the electrician working the ticket.
+public record TicketStatusChangedEvent(
+        UUID ticketId,
+        UUID complaintId,
+        UUID studentId,
+        UUID assignedToId,
+        TicketStatus previousStatus,
+        TicketStatus newStatus
+) {
+
+    // The change that just moved ticket from previousStatus to its current status
+    public static TicketStatusChangedEvent of(Ticket ticket, TicketStatus previousStatus) {
+        return new TicketStatusChangedEvent(ticket.getId(), ticket.getComplaint().getId(),
+                ticket.getComplaint().getStudent().getId(), ticket.getAssignedTo().getId(),
+                previousStatus, ticket.getStatus());
+    }
+}
@@ -9,7 +9,15 @@ import java.util.UUID;
 
 @Data
 @Entity
-@Table(name = "complaints")
+@Table(name = "complaints", indexes = {
+        // Keyset pagination order used by every complaint listing
+        @Index(name = "idx_complaints_created_at_id", columnList = "created_at, id"),
+        // One per filter the listings and repository finders use; see V2__hot_path_indexes.sql
+        @Index(name = "idx_complaints_student_created", columnList = "student_id, created_at, id"),
+        @Index(name = "idx_complaints_assignee_status_created", columnList = "assigned_to_id, status, created_at, id"),
+        @Index(name = "idx_complaints_type_status_created", columnList = "complaint_type, status, created_at, id"),
+        @Index(name = "idx_complaints_status_created", columnList = "status, created_at, id")
+})
 public class Complaint {
 
     @Id
@@ -45,4 +53,7 @@ public class Complaint {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    // When a cleaner was assigned or an electrician ticket created; null until then
+    private LocalDateTime assignedAt;
 }
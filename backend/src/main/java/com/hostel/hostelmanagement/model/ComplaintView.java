@@ -0,0 +1,84 @@
+package com.hostel.hostelmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Read model behind every complaint listing: a complaint with its student, assignee and ticket
+// flattened into one row, so a page is a single-table indexed query with nothing lazy to walk.
+// Written only by ComplaintViewProjector (see V3__complaint_view.sql), never through JPA.
+@Data
+@Entity
+@Immutable
+@Table(name = "complaint_view", indexes = {
+        @Index(name = "idx_complaint_view_created", columnList = "created_at, complaint_id"),
+        @Index(name = "idx_complaint_view_student_created", columnList = "student_id, created_at, complaint_id"),
+        @Index(name = "idx_complaint_view_assignee_status_created", columnList = "assigned_to_id, status, created_at, complaint_id"),
+        @Index(name = "idx_complaint_view_type_status_created", columnList = "complaint_type, status, created_at, complaint_id"),
+        @Index(name = "idx_complaint_view_status_created", columnList = "status, created_at, complaint_id"),
+        @Index(name = "idx_complaint_view_ticket_assignee_status", columnList = "ticket_assigned_to_id, ticket_status")
+})
+public class ComplaintView {
+
+    @Id
+    @Column(name = "complaint_id", columnDefinition = "uuid")
+    private UUID complaintId;
+
+    @Column(columnDefinition = "uuid", nullable = false)
+    private UUID studentId;
+
+    @Column(nullable = false)
+    private String studentName;
+
+    @Column(columnDefinition = "uuid")
+    private UUID assignedToId;
+
+    private String assignedToName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ComplaintType complaintType;
+
+    @Column(nullable = false)
+    private String location;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ComplaintStatus status;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    // Ticket columns are null until a ticket is generated for the complaint
+    @Column(columnDefinition = "uuid")
+    private UUID ticketId;
+
+    private String ticketNumber;
+
+    @Enumerated(EnumType.STRING)
+    private TicketStatus ticketStatus;
+
+    @Column(columnDefinition = "uuid")
+    private UUID ticketAssignedToId;
+
+    private String ticketAssignedToName;
+
+    @Column(columnDefinition = "uuid")
+    private UUID ticketWardenId;
+
+    private String ticketWardenName;
+
+    private LocalDateTime ticketCreatedAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String resolutionNotes;
+
+    private LocalDateTime resolvedAt;
+}
@@ -0,0 +1,55 @@
+package com.hostel.hostelmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.CreationTimestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// An email that must be sent because of a committed business change.
+// Rows are written in the same transaction as the change and delivered later by OutboxDispatcher.
+@Data
+@Entity
+@Table(name = "outbox", indexes = {
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue
+    @Column(columnDefinition = "uuid", updatable = false)
+    private UUID id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // When the message is next eligible for delivery. Claiming a message pushes this forward by
+    // the lease time, so a node that dies mid-send simply lets the lease expire.
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // Set while a dispatcher holds the message (same instant as nextAttemptAt), cleared when an
+    // attempt fails. A pending message with a lease in the future is someone else's.
+    private LocalDateTime leasedUntil;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,7 @@
+package com.hostel.hostelmanagement.model;
+
+public enum OutboxStatus {
+    PENDING, // Waiting to be sent (or being sent, see OutboxMessage.nextAttemptAt)
+    SENT,
+    FAILED   // Gave up after the maximum number of attempts
+}
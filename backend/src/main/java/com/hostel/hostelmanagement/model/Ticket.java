@@ -8,7 +8,10 @@ import java.util.UUID;
 
 @Data
 @Entity
-@Table(name = "tickets")
+@Table(name = "tickets", indexes = {
+        @Index(name = "idx_tickets_assignee_status", columnList = "assigned_to_id, status"),
+        @Index(name = "idx_tickets_status", columnList = "status")
+})
 public class Ticket {
 
     @Id
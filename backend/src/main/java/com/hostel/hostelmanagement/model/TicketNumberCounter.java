@@ -0,0 +1,20 @@
+package com.hostel.hostelmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDate;
+
+// The next unreserved ticket sequence number for one day. Nodes reserve blocks of numbers by
+// advancing nextValue under a row lock; see TicketNumberAllocator.
+@Data
+@Entity
+@Table(name = "ticket_number_counters")
+public class TicketNumberCounter {
+
+    @Id
+    @Column(name = "ticket_day")
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private long nextValue;
+}
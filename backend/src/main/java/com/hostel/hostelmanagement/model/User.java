@@ -8,7 +8,7 @@ import java.util.UUID;
 
 @Data // Lombok annotation for getters, setters, toString, etc.
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_role", columnList = "role"))
 public class User {
 
     @Id
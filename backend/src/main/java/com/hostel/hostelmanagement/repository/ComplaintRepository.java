@@ -1,35 +1,67 @@
 package com.hostel.hostelmanagement.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.hostel.hostelmanagement.model.Complaint;
 import com.hostel.hostelmanagement.model.ComplaintStatus;
 import com.hostel.hostelmanagement.model.ComplaintType;
+import com.hostel.hostelmanagement.model.User;
+
+import jakarta.persistence.LockModeType;
 
 @Repository
 public interface ComplaintRepository extends JpaRepository<Complaint, UUID> {
     List<Complaint> findAll();
-    // Find all complaints filed by a specific student
+    // Find all complaints filed by a specific student.
+    // Explicit queries on the foreign key: the derived versions LEFT JOIN users and filter on
+    // users.id, which keeps the database from using the complaints indexes.
+    @Query("SELECT c FROM Complaint c WHERE c.student.id = :studentId")
     List<Complaint> findByStudentId(UUID studentId);
     List<Complaint> findByComplaintTypeAndStatus(ComplaintType complaintType, ComplaintStatus status);
 
+    @Query("SELECT c FROM Complaint c WHERE c.assignedTo.id = :assignedToId AND c.status = :status")
     List<Complaint> findByAssignedToIdAndStatus(UUID assignedToId, ComplaintStatus status);
 
+    @Query("SELECT c FROM Complaint c WHERE c.assignedTo.id = :assignedToId")
     List<Complaint> findByAssignedToId(UUID assignedToId);
 
     long countByStatus(ComplaintStatus status);
 
-    @Query("""
-    SELECT c FROM Complaint c
-    LEFT JOIN FETCH c.assignedTo
-    LEFT JOIN FETCH c.student
-    """)
-    List<Complaint> findAllWithTicketData();
+    // SELECT ... FOR UPDATE: a second request completing the same task waits for the first to
+    // commit and then sees its status
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Complaint c WHERE c.id = :id")
+    Optional<Complaint> findByIdForUpdate(UUID id);
+
+    // [status, count] pairs, used to reconcile the in-memory dashboard counters
+    @Query("SELECT c.status, COUNT(c) FROM Complaint c GROUP BY c.status")
+    List<Object[]> countGroupedByStatus();
+
+    // One query for a whole bulk assignment, with the students that get notified
+    @Query("SELECT c FROM Complaint c JOIN FETCH c.student WHERE c.id IN :ids")
+    List<Complaint> findAllWithStudentByIdIn(Collection<UUID> ids);
+
+    // Set-based updates for bulk assignment. They bypass the persistence context (and
+    // @UpdateTimestamp), so the assignment time, also written as updatedAt, is passed in and the
+    // context is cleared afterwards: complaints loaded before are detached and further changes
+    // to them are not written.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Complaint c SET c.status = :status, c.assignedTo = :assignee, c.assignedAt = :assignedAt, c.updatedAt = :assignedAt WHERE c.id IN :ids")
+    int assignAll(Collection<UUID> ids, User assignee, ComplaintStatus status, LocalDateTime assignedAt);
 
+    // For ticketed complaints, whose assignee is on the ticket
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Complaint c SET c.status = :status, c.assignedAt = :assignedAt, c.updatedAt = :assignedAt WHERE c.id IN :ids")
+    int markAssignedAll(Collection<UUID> ids, ComplaintStatus status, LocalDateTime assignedAt);
 
 }
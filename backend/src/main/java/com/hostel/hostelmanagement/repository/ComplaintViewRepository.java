@@ -0,0 +1,55 @@
+package com.hostel.hostelmanagement.repository;
+
+import com.hostel.hostelmanagement.model.ComplaintView;
+import com.hostel.hostelmanagement.model.TicketStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ComplaintViewRepository extends JpaRepository<ComplaintView, UUID>, ComplaintViewRepositoryCustom {
+
+    // The one definition of a complaint_view row, shared by the refresh, the rebuild and the V3 migration
+    String INSERT_FROM_SOURCE = """
+            INSERT INTO complaint_view (complaint_id, student_id, student_name, assigned_to_id, assigned_to_name,
+                                        complaint_type, location, description, status, created_at, updated_at,
+                                        ticket_id, ticket_number, ticket_status, ticket_assigned_to_id, ticket_assigned_to_name,
+                                        ticket_warden_id, ticket_warden_name, ticket_created_at, resolution_notes, resolved_at)
+            SELECT c.id, c.student_id, s.full_name, c.assigned_to_id, a.full_name,
+                   c.complaint_type, c.location, c.description, c.status, c.created_at, c.updated_at,
+                   t.id, t.ticket_number, t.status, t.assigned_to_id, ta.full_name,
+                   t.warden_id, w.full_name, t.created_at, t.resolution_notes, t.resolved_at
+            FROM complaints c
+            JOIN users s ON s.id = c.student_id
+            LEFT JOIN users a ON a.id = c.assigned_to_id
+            LEFT JOIN tickets t ON t.complaint_id = c.id
+            LEFT JOIN users ta ON ta.id = t.assigned_to_id
+            LEFT JOIN users w ON w.id = t.warden_id
+            """;
+
+    @Query("SELECT v FROM ComplaintView v WHERE v.ticketAssignedToId = :assignedToId AND v.ticketStatus <> :status")
+    List<ComplaintView> findByTicketAssignedToIdAndTicketStatusNot(UUID assignedToId, TicketStatus status);
+
+    // Pending entity changes are flushed first, so the rows are built from what this
+    // transaction has written so far.
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM complaint_view WHERE complaint_id IN (:complaintIds)", nativeQuery = true)
+    int deleteByComplaintIdIn(Collection<UUID> complaintIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = INSERT_FROM_SOURCE + "WHERE c.id IN (:complaintIds)", nativeQuery = true)
+    int insertFromSource(Collection<UUID> complaintIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM complaint_view", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = INSERT_FROM_SOURCE, nativeQuery = true)
+    int insertAllFromSource();
+}
@@ -0,0 +1,14 @@
+package com.hostel.hostelmanagement.repository;
+
+import com.hostel.hostelmanagement.dto.ComplaintQuery;
+import com.hostel.hostelmanagement.model.ComplaintView;
+
+import java.util.List;
+
+// Keyset-paginated complaint listings ordered by (createdAt DESC, complaintId DESC).
+// Each call is exactly one single-table SQL query on complaint_view and returns at most limit
+// rows, so cost does not grow with the size of the table.
+public interface ComplaintViewRepositoryCustom {
+
+    List<ComplaintView> findPage(ComplaintQuery query, int limit);
+}
@@ -0,0 +1,58 @@
+package com.hostel.hostelmanagement.repository;
+
+import com.hostel.hostelmanagement.dto.ComplaintCursor;
+import com.hostel.hostelmanagement.dto.ComplaintQuery;
+import com.hostel.hostelmanagement.model.ComplaintView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Only the predicates that are actually requested end up in the WHERE clause, so the
+// database can use the (created_at, complaint_id) and filter indexes instead of a generic plan.
+class ComplaintViewRepositoryImpl implements ComplaintViewRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ComplaintView> findPage(ComplaintQuery query, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT v FROM ComplaintView v WHERE 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+        if (query.getStatus() != null) {
+            jpql.append(" AND v.status = :status");
+            params.put("status", query.getStatus());
+        }
+        if (query.getComplaintType() != null) {
+            jpql.append(" AND v.complaintType = :complaintType");
+            params.put("complaintType", query.getComplaintType());
+        }
+        if (query.getAssignedTo() != null) {
+            // Cleaning complaints are assigned on the complaint, electrical ones through their ticket
+            jpql.append(" AND (v.assignedToId = :assignedTo OR v.ticketAssignedToId = :assignedTo)");
+            params.put("assignedTo", query.getAssignedTo());
+        }
+        if (query.getStudentId() != null) {
+            jpql.append(" AND v.studentId = :studentId");
+            params.put("studentId", query.getStudentId());
+        }
+        ComplaintCursor after = query.after();
+        if (after != null) {
+            jpql.append(" AND (v.createdAt < :afterCreatedAt OR (v.createdAt = :afterCreatedAt AND v.complaintId < :afterId))");
+            params.put("afterCreatedAt", after.createdAt());
+            params.put("afterId", after.id());
+        }
+        jpql.append(" ORDER BY v.createdAt DESC, v.complaintId DESC");
+
+        TypedQuery<ComplaintView> typedQuery = entityManager.createQuery(jpql.toString(), ComplaintView.class);
+        params.forEach(typedQuery::setParameter);
+        List<ComplaintView> rows = typedQuery.setMaxResults(limit).getResultList();
+        // View rows are never modified through JPA, so nothing is lost by not keeping them in the
+        // persistence context; a long walk over many pages (the export) stays flat in memory.
+        rows.forEach(entityManager::detach);
+        return rows;
+    }
+}
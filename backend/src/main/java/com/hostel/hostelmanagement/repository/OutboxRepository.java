@@ -0,0 +1,71 @@
+package com.hostel.hostelmanagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import com.hostel.hostelmanagement.model.OutboxMessage;
+import com.hostel.hostelmanagement.model.OutboxStatus;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface OutboxRepository extends JpaRepository<OutboxMessage, UUID> {
+
+    // SELECT ... FOR UPDATE SKIP LOCKED: rows another node is claiming right now are skipped
+    // instead of waited on, so several dispatchers can poll the table concurrently.
+    // (Hibernate maps a lock timeout of -2 to SKIP LOCKED.)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+    SELECT m FROM OutboxMessage m
+    WHERE m.status = com.hostel.hostelmanagement.model.OutboxStatus.PENDING
+      AND m.nextAttemptAt <= :now
+    ORDER BY m.nextAttemptAt
+    """)
+    List<OutboxMessage> lockDue(LocalDateTime now, Limit limit);
+
+    // Pending messages for these recipients that may ride along in a digest: those already due,
+    // and those still waiting out their digest window. Messages leased to another node (their
+    // row lock was released when the lease committed) and failed messages waiting out a retry
+    // backoff are excluded; rows locked right now are skipped, as in lockDue.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+    SELECT m FROM OutboxMessage m
+    WHERE m.status = com.hostel.hostelmanagement.model.OutboxStatus.PENDING
+      AND m.recipient IN :recipients
+      AND (m.nextAttemptAt <= :now OR (m.leasedUntil IS NULL AND m.attempts = 0))
+    ORDER BY m.createdAt
+    """)
+    List<OutboxMessage> lockPendingFor(Collection<String> recipients, LocalDateTime now, Limit limit);
+
+    // Messages still waiting to be delivered (uses idx_outbox_status_next_attempt)
+    long countByStatus(OutboxStatus status);
+
+    @Modifying
+    @Query("""
+    UPDATE OutboxMessage m
+    SET m.status = com.hostel.hostelmanagement.model.OutboxStatus.SENT, m.sentAt = :sentAt, m.lastError = null
+    WHERE m.id IN :ids
+    """)
+    int markSent(Collection<UUID> ids, LocalDateTime sentAt);
+
+    @Modifying
+    @Query("""
+    DELETE FROM OutboxMessage m
+    WHERE m.status = com.hostel.hostelmanagement.model.OutboxStatus.SENT
+      AND m.sentAt < :cutoff
+    """)
+    int deleteSentBefore(LocalDateTime cutoff);
+}
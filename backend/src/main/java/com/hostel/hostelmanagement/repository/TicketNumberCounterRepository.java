@@ -0,0 +1,13 @@
+package com.hostel.hostelmanagement.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.hostel.hostelmanagement.model.TicketNumberCounter;
+
+// Reservations go through TicketNumberAllocator's own connection, not this repository
+@Repository
+public interface TicketNumberCounterRepository extends JpaRepository<TicketNumberCounter, LocalDate> {
+}
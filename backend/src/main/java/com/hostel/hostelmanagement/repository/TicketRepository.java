@@ -1,22 +1,41 @@
 package com.hostel.hostelmanagement.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.hostel.hostelmanagement.model.Ticket;
 import com.hostel.hostelmanagement.model.TicketStatus;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface TicketRepository extends JpaRepository<Ticket, UUID> {
 //    List<Ticket> findByAssignedToId(UUID electricianId);
+    // Filter on the foreign key columns directly (see ComplaintRepository.findByStudentId)
+    @Query("SELECT t FROM Ticket t WHERE t.assignedTo.id = :assignedToId AND t.status <> :status")
     List<Ticket> findByAssignedToIdAndStatusNot(UUID assignedToId, TicketStatus status);
     Optional<Ticket> findById(UUID ticketId);
+
+    // SELECT ... FOR UPDATE, see ComplaintRepository.findByIdForUpdate
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Ticket t WHERE t.id = :id")
+    Optional<Ticket> findByIdForUpdate(UUID id);
     long countByStatus(TicketStatus status);
+
+    // [status, count] pairs, used to reconcile the in-memory dashboard counters
+    @Query("SELECT t.status, COUNT(t) FROM Ticket t GROUP BY t.status")
+    List<Object[]> countGroupedByStatus();
+    @Query("SELECT t FROM Ticket t WHERE t.complaint.id = :complaintId")
     Optional<Ticket> findByComplaintId(UUID complaintId);
 
+    @Query("SELECT t.complaint.id FROM Ticket t WHERE t.complaint.id IN :complaintIds")
+    List<UUID> findComplaintIdsWithTicket(Collection<UUID> complaintIds);
 
 }
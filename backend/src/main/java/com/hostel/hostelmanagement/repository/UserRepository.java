@@ -3,6 +3,7 @@ package com.hostel.hostelmanagement.repository;
 import com.hostel.hostelmanagement.model.Role;
 import com.hostel.hostelmanagement.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -15,4 +16,8 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
 
     List<User> findByRole(Role role);
+
+    // [email, id] pairs, for resolving many rows by email without loading whole users
+    @Query("SELECT u.email, u.id FROM User u WHERE u.role = :role")
+    List<Object[]> findEmailAndIdByRole(Role role);
 }
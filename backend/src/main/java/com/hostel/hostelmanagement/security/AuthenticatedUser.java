@@ -0,0 +1,57 @@
+package com.hostel.hostelmanagement.security;
+
+import com.hostel.hostelmanagement.model.Role;
+import com.hostel.hostelmanagement.model.User;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.UUID;
+
+// The principal of every authenticated request, whether it came in with HTTP Basic
+// (CustomUserDetailsService) or a bearer token (TokenAuthenticationFilter). It carries the
+// user's id, name and role, so nothing has to look the user up again by email; the username
+// is still the email, so code that only needs UserDetails keeps working.
+public class AuthenticatedUser extends org.springframework.security.core.userdetails.User {
+
+    private final UUID id;
+    private final String fullName;
+    private final Role role;
+
+    public AuthenticatedUser(UUID id, String email, String fullName, Role role, String password) {
+        super(email, password, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        this.id = id;
+        this.fullName = fullName;
+        this.role = role;
+    }
+
+    public AuthenticatedUser(User user) {
+        this(user.getId(), user.getEmail(), user.getFullName(), user.getRole(), user.getPasswordHash());
+    }
+
+    // The principal of the current request
+    public static AuthenticatedUser current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            throw new IllegalStateException("No authenticated user");
+        }
+        return user;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return getUsername();
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+}
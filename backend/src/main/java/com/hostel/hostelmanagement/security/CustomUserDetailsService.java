@@ -1,41 +1,27 @@
 package com.hostel.hostelmanagement.security;
 
 import com.hostel.hostelmanagement.model.User;
-import com.hostel.hostelmanagement.repository.UserRepository;
+import com.hostel.hostelmanagement.service.UserCache;
 import lombok.AllArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-import java.util.Set;
-
 @Service
 @AllArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private UserRepository userRepository;
+    private UserCache userCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         // We are using email as the username
-        User user = userRepository.findByEmail(email)
+        User user = userCache.findByEmail(email)
                 .orElseThrow(() ->
                         new UsernameNotFoundException("User not found with email: " + email));
 
-        // Create a GrantedAuthority for the user's role
-        // Spring Security requires roles to be in the format 'ROLE_ADMIN', 'ROLE_STUDENT' etc.
-        Set<GrantedAuthority> authorities = Collections.singleton(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-        );
-
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPasswordHash(),
-                authorities
-        );
+        // Carries the id, name and role (as a ROLE_ authority) along with the credentials
+        return new AuthenticatedUser(user);
     }
 }
@@ -0,0 +1,106 @@
+package com.hostel.hostelmanagement.security;
+
+import com.hostel.hostelmanagement.model.Role;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+// Issues and verifies stateless bearer tokens: base64url(payload) + "." + base64url(HMAC-SHA256(payload)).
+// The payload carries everything needed to authorize a request (user id, email, role, expiry, name),
+// so verifying a token is one HMAC over a few dozen bytes: no database lookup and no BCrypt.
+@Component
+public class TokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    // Mac instances are not thread-safe and relatively expensive to create, so keep one per thread
+    private final ThreadLocal<Mac> macs;
+
+    public record TokenClaims(UUID userId, String email, String fullName, Role role, Instant expiresAt) {}
+
+    public TokenService(@Value("${app.auth.token-secret:}") String secret,
+                        @Value("${app.auth.token-ttl:PT12H}") Duration ttl) {
+        byte[] keyBytes;
+        if (secret.isBlank()) {
+            // Fine for a single dev instance; tokens stop working on restart and are not shared across nodes
+            System.err.println(">>> app.auth.token-secret is not set, using a random signing key");
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = Base64.getDecoder().decode(secret);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttl = ttl;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public Instant nextExpiry() {
+        return Instant.now().plus(ttl);
+    }
+
+    public String issue(UUID userId, String email, String fullName, Role role, Instant expiresAt) {
+        // Newlines cannot appear in the first four fields, so they are a safe separator; the name,
+        // which could contain one, goes last and is read as the rest of the payload
+        String payload = userId + "\n" + email + "\n" + role.name() + "\n" + expiresAt.getEpochSecond()
+                + "\n" + fullName;
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes));
+    }
+
+    // Empty if the token is malformed, tampered with or expired.
+    public Optional<TokenClaims> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payloadBytes = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payloadBytes), signature)) {
+                return Optional.empty();
+            }
+
+            String[] fields = new String(payloadBytes, StandardCharsets.UTF_8).split("\n", 5);
+            if (fields.length != 5) {
+                return Optional.empty();
+            }
+            Instant expiresAt = Instant.ofEpochSecond(Long.parseLong(fields[3]));
+            if (expiresAt.isBefore(Instant.now())) {
+                return Optional.empty();
+            }
+            return Optional.of(new TokenClaims(UUID.fromString(fields[0]), fields[1], fields[4], Role.valueOf(fields[2]), expiresAt));
+        } catch (IllegalArgumentException e) {
+            // Bad base64, UUID, role or number
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.config.AsyncConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Collects outgoing messages and hands them to JavaMailSender.send(SimpleMailMessage...) in
+// batches, which delivers a whole batch over one SMTP connection instead of connecting and
+// handshaking once per message. A batch is flushed as soon as it reaches max-batch-size, or
+// max-delay after its first message arrived, whichever comes first.
+@Component
+public class BatchingMailTransport implements DisposableBean {
+
+    private final JavaMailSender mailSender;
+    private final Executor notificationExecutor;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final DistributionSummary batchSize;
+    private final ScheduledExecutorService flushTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "mail-batch-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+    private List<Pending> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public BatchingMailTransport(JavaMailSender mailSender,
+                                 @Qualifier(AsyncConfig.NOTIFICATION_EXECUTOR) Executor notificationExecutor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.notifications.smtp.max-batch-size:50}") int maxBatchSize,
+                                 @Value("${app.notifications.smtp.max-delay:PT0.2S}") Duration maxDelay) {
+        this.mailSender = mailSender;
+        this.notificationExecutor = notificationExecutor;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+        this.batchSize = DistributionSummary.builder("notification.smtp.batch.size")
+                .description("Messages delivered per SMTP connection")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private record Pending(SimpleMailMessage message, CompletableFuture<Void> result) {
+    }
+
+    // Completes when the mail server has accepted (or rejected) this particular message.
+    public CompletableFuture<Void> send(SimpleMailMessage message) {
+        Pending entry = new Pending(message, new CompletableFuture<>());
+        List<Pending> full = null;
+        synchronized (lock) {
+            pending.add(entry);
+            if (pending.size() >= maxBatchSize) {
+                full = drain();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = flushTimer.schedule(this::flush, maxDelay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            List<Pending> batch = full;
+            notificationExecutor.execute(() -> deliver(batch));
+        }
+        return entry.result();
+    }
+
+    public void flush() {
+        List<Pending> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            notificationExecutor.execute(() -> deliver(batch));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+        flushTimer.shutdownNow();
+    }
+
+    // Caller holds the lock
+    private List<Pending> drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<Pending> batch = pending;
+        pending = new ArrayList<>();
+        return batch;
+    }
+
+    private void deliver(List<Pending> batch) {
+        SimpleMailMessage[] messages = batch.stream().map(Pending::message).toArray(SimpleMailMessage[]::new);
+        try {
+            mailSender.send(messages);
+            batch.forEach(entry -> entry.result().complete(null));
+        } catch (MailSendException e) {
+            // Per-message failures are keyed by the original SimpleMailMessage; the rest went through
+            Map<Object, Exception> failed = e.getFailedMessages();
+            for (Pending entry : batch) {
+                if (failed.isEmpty()) {
+                    entry.result().completeExceptionally(e);
+                } else if (failed.containsKey(entry.message())) {
+                    entry.result().completeExceptionally(failed.get(entry.message()));
+                } else {
+                    entry.result().complete(null);
+                }
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(entry -> entry.result().completeExceptionally(e));
+        }
+        batchSize.record(batch.size());
+    }
+}
@@ -0,0 +1,199 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.event.ComplaintStatusChangedEvent;
+import com.hostel.hostelmanagement.event.TicketStatusChangedEvent;
+import com.hostel.hostelmanagement.model.Role;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+// Pushes complaint and ticket status changes to open dashboards as server-sent events, so they
+// can update in place instead of re-fetching whole lists. Admins and wardens see every change,
+// students the changes to their own complaints and tickets, cleaners the complaints assigned to
+// them, and electricians their tickets.
+//
+// Events are taken after the transaction commits and only offered to each subscriber's queue;
+// a virtual thread per busy subscriber writes them out. An idle connection holds no thread (the
+// request is async), just its emitter and an empty queue of buffer-size slots. A subscriber that
+// falls that far behind loses its backlog and gets a single "resync" event telling it to reload,
+// so a slow client never grows memory or holds up the others.
+@Component
+public class ChangeEventBroadcaster implements DisposableBean {
+
+    private static final Set<DataWithMediaType> RESYNC = SseEmitter.event().name("resync").data("{}").build();
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration timeout;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService writers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-writer-", 0).factory());
+    private final Counter resyncs;
+
+    public ChangeEventBroadcaster(MeterRegistry meterRegistry,
+                                  @Value("${app.events.subscriber-buffer:64}") int bufferSize,
+                                  @Value("${app.events.max-subscribers:10000}") int maxSubscribers,
+                                  @Value("${app.events.timeout:PT30M}") Duration timeout) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        Gauge.builder("events.subscribers", subscribers, Set::size)
+                .description("Open change event streams")
+                .register(meterRegistry);
+        this.resyncs = Counter.builder("events.resyncs")
+                .description("Subscribers that fell behind and were told to reload")
+                .register(meterRegistry);
+    }
+
+    // The stream ends after the timeout; EventSource-style clients simply reconnect
+    public SseEmitter subscribe(UUID userId, Role role) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many open event streams");
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(userId, role, emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        subscribers.add(subscriber);
+        // Sent at once, so the client knows the stream is live before the first change
+        subscriber.offer(SseEmitter.event().name("connected").data("{}").build());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onComplaintStatusChanged(ComplaintStatusChangedEvent event) {
+        broadcast("complaint", event, subscriber -> switch (subscriber.role) {
+            case ADMIN, WARDEN -> true;
+            case STUDENT -> subscriber.userId.equals(event.studentId());
+            case CLEANER -> subscriber.userId.equals(event.assignedToId());
+            case ELECTRICIAN -> false;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketStatusChanged(TicketStatusChangedEvent event) {
+        broadcast("ticket", event, subscriber -> switch (subscriber.role) {
+            case ADMIN, WARDEN -> true;
+            case STUDENT -> subscriber.userId.equals(event.studentId());
+            case ELECTRICIAN -> subscriber.userId.equals(event.assignedToId());
+            case CLEANER -> false;
+        });
+    }
+
+    // Proxies and the browser drop connections that stay silent for too long; a failed write
+    // is also how a vanished client is noticed.
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-ms:20000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.isEmpty()) {
+                subscriber.offer(HEARTBEAT);
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    // Runs before the web server stops: graceful shutdown would otherwise wait out every open
+    // stream as an active request
+    @EventListener(ContextClosedEvent.class)
+    public void closeAll() {
+        subscribers.forEach(Subscriber::close);
+    }
+
+    @Override
+    public void destroy() {
+        closeAll();
+        writers.shutdown();
+    }
+
+    private void broadcast(String name, Object event, Predicate<Subscriber> audience) {
+        Set<DataWithMediaType> message = null;
+        for (Subscriber subscriber : subscribers) {
+            if (audience.test(subscriber)) {
+                if (message == null) {
+                    // Serialized once, whatever the number of subscribers
+                    message = SseEmitter.event().name(name).data(event, MediaType.APPLICATION_JSON).build();
+                }
+                subscriber.offer(message);
+            }
+        }
+    }
+
+    private final class Subscriber {
+        private final UUID userId;
+        private final Role role;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean writing = new AtomicBoolean();
+
+        private Subscriber(UUID userId, Role role, SseEmitter emitter) {
+            this.userId = userId;
+            this.role = role;
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> message) {
+            if (!queue.offer(message)) {
+                queue.clear();
+                queue.offer(RESYNC);
+                resyncs.increment();
+            }
+            if (writing.compareAndSet(false, true)) {
+                writers.execute(this::write);
+            }
+        }
+
+        // At most one writer per subscriber, so messages go out in order
+        private void write() {
+            try {
+                Set<DataWithMediaType> message;
+                while ((message = queue.poll()) != null) {
+                    emitter.send(message);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client gone or stream already completed
+                close();
+                return;
+            } finally {
+                writing.set(false);
+            }
+            // A message offered just as the loop ended would otherwise wait for the next one
+            if (!queue.isEmpty() && writing.compareAndSet(false, true)) {
+                writers.execute(this::write);
+            }
+        }
+
+        void close() {
+            subscribers.remove(this);
+            queue.clear();
+            emitter.complete();
+        }
+    }
+}
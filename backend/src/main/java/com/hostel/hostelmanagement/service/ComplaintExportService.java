@@ -0,0 +1,133 @@
+package com.hostel.hostelmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hostel.hostelmanagement.dto.ComplaintCursor;
+import com.hostel.hostelmanagement.dto.ComplaintQuery;
+import com.hostel.hostelmanagement.dto.ComplaintResponseDto;
+import com.hostel.hostelmanagement.dto.DtoMapper;
+import com.hostel.hostelmanagement.model.ComplaintView;
+import com.hostel.hostelmanagement.repository.ComplaintViewRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// Streams the complaint + ticket history without ever holding more than one batch in memory.
+// Batches are read with the same keyset query as the paginated history endpoint, so every
+// batch is a single indexed query and nothing is kept in the persistence context.
+@Service
+@AllArgsConstructor
+public class ComplaintExportService {
+
+    public static final int BATCH_SIZE = 1000;
+
+    private static final String CSV_HEADER = "id,complaintType,status,createdAt,location,description,studentName,"
+            + "assignedToName,ticketId,ticketAssignedTo,resolvedAt,resolutionNotes";
+
+    private final ComplaintViewRepository complaintViewRepository;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        // The ?format= request parameter, in any case; anything else is a bad request
+        public static Format parse(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown format: " + value + " (expected ndjson or csv)");
+        }
+    }
+
+    // Returns the number of rows written. The output stream is flushed after every batch
+    // but not closed.
+    public long export(ComplaintQuery filter, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ObjectWriter json = objectMapper.writerFor(ComplaintResponseDto.class);
+
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long rows = 0;
+        filter.setCursor(null);
+        while (true) {
+            List<ComplaintView> batch = complaintViewRepository.findPage(filter, BATCH_SIZE);
+            for (ComplaintView view : batch) {
+                ComplaintResponseDto dto = DtoMapper.toComplaintResponseDto(view);
+                if (format == Format.CSV) {
+                    writeCsvRow(writer, dto);
+                } else {
+                    writer.write(json.writeValueAsString(dto));
+                }
+                writer.write('\n');
+            }
+            rows += batch.size();
+            writer.flush();
+
+            if (batch.size() < BATCH_SIZE) {
+                return rows;
+            }
+            ComplaintView last = batch.get(batch.size() - 1);
+            filter.setCursor(new ComplaintCursor(last.getCreatedAt(), last.getComplaintId()).encode());
+        }
+    }
+
+    private static void writeCsvRow(Writer writer, ComplaintResponseDto dto) throws IOException {
+        Object[] columns = {
+                dto.getId(), dto.getComplaintType(), dto.getStatus(), dto.getCreatedAt(),
+                dto.getLocation(), dto.getDescription(), dto.getStudentName(), dto.getAssignedToName(),
+                dto.getTicketId(), dto.getTicketAssignedTo(), dto.getResolvedAt(), dto.getResolutionNotes()
+        };
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (columns[i] != null) {
+                writer.write(csvEscape(columns[i].toString()));
+            }
+        }
+    }
+
+    // Descriptions and locations are typed by students. A cell starting with one of these would be
+    // run as a formula by Excel or Sheets (=HYPERLINK(...) and friends), so it gets a leading quote
+    // that makes the spreadsheet show it as text.
+    static String csvEscape(String value) {
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
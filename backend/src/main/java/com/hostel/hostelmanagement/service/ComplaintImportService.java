@@ -0,0 +1,345 @@
+package com.hostel.hostelmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.hostel.hostelmanagement.dto.ComplaintImportResultDto;
+import com.hostel.hostelmanagement.dto.ComplaintImportResultDto.RowError;
+import com.hostel.hostelmanagement.event.ComplaintStatusChangedEvent;
+import com.hostel.hostelmanagement.model.ComplaintStatus;
+import com.hostel.hostelmanagement.model.ComplaintType;
+import com.hostel.hostelmanagement.model.Role;
+import com.hostel.hostelmanagement.model.User;
+import com.hostel.hostelmanagement.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Bulk import of complaints (migrations from other hostels, backlogs typed up from paper forms)
+// from an NDJSON or CSV stream, holding no more than one batch of rows in memory.
+// Students are resolved through an email -> id map loaded once, rows go in with JDBC batch
+// inserts, and every batch commits on its own. A row that cannot be imported is reported with
+// its row number and skipped; it never fails the rest of the import. Wardens get one summary
+// notification per import instead of a mail per complaint.
+@Service
+public class ComplaintImportService {
+
+    public static final int BATCH_SIZE = 1000;
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("studentEmail", "complaintType", "location", "description");
+    private static final String INSERT = """
+            INSERT INTO complaints (id, student_id, complaint_type, location, description, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final OutboxService outboxService;
+    private final ComplaintViewProjector complaintViewProjector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader rowReader;
+    private final TransactionTemplate transactionTemplate;
+
+    public ComplaintImportService(JdbcTemplate jdbcTemplate,
+                                  UserRepository userRepository,
+                                  UserCache userCache,
+                                  OutboxService outboxService,
+                                  ComplaintViewProjector complaintViewProjector,
+                                  ApplicationEventPublisher eventPublisher,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.outboxService = outboxService;
+        this.complaintViewProjector = complaintViewProjector;
+        this.eventPublisher = eventPublisher;
+        this.rowReader = objectMapper.readerFor(ImportRow.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // One input record, as given. Everything is a string so that a bad value becomes a row
+    // error with a readable message rather than a parse failure.
+    public record ImportRow(String studentEmail, String complaintType, String location, String description,
+                            String status, String createdAt) {
+    }
+
+    private record PendingRow(long row, UUID id, UUID studentId, ComplaintType type, ComplaintStatus status, Object[] values) {
+    }
+
+    private static final class Tally {
+        private long imported;
+        private long failed;
+        private final List<RowError> errors = new ArrayList<>();
+        private final Map<ComplaintType, Long> importedByType = new EnumMap<>(ComplaintType.class);
+
+        void fail(long row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(row, message));
+            }
+        }
+    }
+
+    public ComplaintImportResultDto importComplaints(ComplaintExportService.Format format, InputStream in) throws IOException {
+        Map<String, UUID> studentIds = studentIdsByEmail();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Tally tally = new Tally();
+        List<PendingRow> batch = new ArrayList<>(BATCH_SIZE);
+
+        Map<String, Integer> columns = format == ComplaintExportService.Format.CSV ? readCsvHeader(reader) : null;
+        long row = 0;
+        while (true) {
+            ImportRow input;
+            if (format == ComplaintExportService.Format.CSV) {
+                List<String> record = readCsvRecord(reader);
+                if (record == null) {
+                    break;
+                }
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                row++;
+                input = toImportRow(record, columns);
+            } else {
+                String line = reader.readLine();
+                if (line == null) {
+                    break;
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                row++;
+                try {
+                    input = rowReader.readValue(line);
+                } catch (JsonProcessingException e) {
+                    tally.fail(row, "Malformed JSON: " + e.getOriginalMessage());
+                    continue;
+                }
+            }
+
+            PendingRow pending = validate(row, input, studentIds, tally);
+            if (pending != null) {
+                batch.add(pending);
+                if (batch.size() == BATCH_SIZE) {
+                    insert(batch, tally);
+                }
+            }
+        }
+        insert(batch, tally);
+
+        if (tally.imported > 0) {
+            notifyWardens(tally);
+        }
+        return new ComplaintImportResultDto(tally.imported, tally.failed, tally.errors, tally.failed > tally.errors.size());
+    }
+
+    private Map<String, UUID> studentIdsByEmail() {
+        Map<String, UUID> studentIds = new HashMap<>();
+        for (Object[] row : userRepository.findEmailAndIdByRole(Role.STUDENT)) {
+            studentIds.put(((String) row[0]).toLowerCase(Locale.ROOT), (UUID) row[1]);
+        }
+        return studentIds;
+    }
+
+    private static PendingRow validate(long row, ImportRow input, Map<String, UUID> studentIds, Tally tally) {
+        UUID studentId = input.studentEmail() == null ? null : studentIds.get(input.studentEmail().trim().toLowerCase(Locale.ROOT));
+        if (studentId == null) {
+            tally.fail(row, "Unknown student email: " + input.studentEmail());
+            return null;
+        }
+        ComplaintType type = parseEnum(ComplaintType.class, input.complaintType());
+        if (type == null) {
+            tally.fail(row, "Unknown complaintType: " + input.complaintType());
+            return null;
+        }
+        if (isBlank(input.location()) || isBlank(input.description())) {
+            tally.fail(row, "location and description are required");
+            return null;
+        }
+        ComplaintStatus status = isBlank(input.status()) ? ComplaintStatus.SUBMITTED : parseEnum(ComplaintStatus.class, input.status());
+        if (status == null) {
+            tally.fail(row, "Unknown status: " + input.status());
+            return null;
+        }
+        // Every other status implies an assignee, a ticket or both, which an import cannot supply
+        if (status != ComplaintStatus.SUBMITTED) {
+            tally.fail(row, "Only SUBMITTED complaints can be imported, not " + status);
+            return null;
+        }
+        LocalDateTime createdAt;
+        try {
+            createdAt = isBlank(input.createdAt()) ? LocalDateTime.now() : LocalDateTime.parse(input.createdAt().trim());
+        } catch (DateTimeParseException e) {
+            tally.fail(row, "Invalid createdAt (expected ISO date-time): " + input.createdAt());
+            return null;
+        }
+
+        UUID id = UUID.randomUUID();
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        return new PendingRow(row, id, studentId, type, status, new Object[]{
+                id, studentId, type.name(), input.location().trim(), input.description(), status.name(), timestamp, timestamp
+        });
+    }
+
+    private void insert(List<PendingRow> batch, Tally tally) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                jdbcTemplate.batchUpdate(INSERT, batch.stream().map(PendingRow::values).toList());
+                complaintViewProjector.refresh(batch.stream().map(PendingRow::id).toList());
+                batch.forEach(this::published);
+            });
+            batch.forEach(row -> imported(row, tally));
+        } catch (DataAccessException batchFailure) {
+            // Find the offending rows one at a time; the rest of the batch still goes in
+            for (PendingRow row : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(tx -> {
+                        jdbcTemplate.update(INSERT, row.values());
+                        complaintViewProjector.refresh(row.id());
+                        published(row);
+                    });
+                    imported(row, tally);
+                } catch (DataAccessException rowFailure) {
+                    tally.fail(row.row(), "Rejected by the database: "
+                            + NestedExceptionUtils.getMostSpecificCause(rowFailure).getMessage());
+                }
+            }
+        }
+        batch.clear();
+    }
+
+    // Keeps the dashboard counters in step; delivered after the batch commits
+    private void published(PendingRow row) {
+        eventPublisher.publishEvent(new ComplaintStatusChangedEvent(
+                row.id(), row.type(), row.studentId(), null, null, row.status()));
+    }
+
+    private static void imported(PendingRow row, Tally tally) {
+        tally.imported++;
+        tally.importedByType.merge(row.type(), 1L, Long::sum);
+    }
+
+    private void notifyWardens(Tally tally) {
+        String subject = "Complaints Imported: " + tally.imported;
+        String body = "A bulk import added " + tally.imported + " complaints:\n"
+                + tally.importedByType.entrySet().stream()
+                        .map(e -> "- " + e.getKey() + ": " + e.getValue())
+                        .collect(Collectors.joining("\n"))
+                + (tally.failed > 0 ? "\n\n" + tally.failed + " rows could not be imported." : "")
+                + "\n\nPlease log in to the system to review them.";
+        transactionTemplate.executeWithoutResult(tx -> {
+            for (User warden : userCache.findByRole(Role.WARDEN)) {
+                outboxService.enqueue(warden.getEmail(), subject, body);
+            }
+        });
+    }
+
+    private static Map<String, Integer> readCsvHeader(BufferedReader reader) throws IOException {
+        List<String> header = readCsvRecord(reader);
+        Map<String, Integer> columns = new HashMap<>();
+        if (header != null) {
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim(), i);
+            }
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing columns: " + missing);
+        }
+        return columns;
+    }
+
+    private static ImportRow toImportRow(List<String> record, Map<String, Integer> columns) {
+        return new ImportRow(column(record, columns, "studentEmail"), column(record, columns, "complaintType"),
+                column(record, columns, "location"), column(record, columns, "description"),
+                column(record, columns, "status"), column(record, columns, "createdAt"));
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        return index == null || index >= record.size() ? null : record.get(index);
+    }
+
+    // One RFC 4180 record, or null at the end of the input. Quoted fields may contain commas,
+    // doubled quotes and line breaks, as written by ComplaintExportService.
+    private static List<String> readCsvRecord(BufferedReader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        if (isBlank(value)) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,211 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.config.SchedulingConfig;
+import com.hostel.hostelmanagement.dto.ComplaintDto;
+import com.hostel.hostelmanagement.dto.ComplaintQuery;
+import com.hostel.hostelmanagement.dto.ComplaintSearchResultDto;
+import com.hostel.hostelmanagement.dto.DtoMapper;
+import com.hostel.hostelmanagement.event.ComplaintStatusChangedEvent;
+import com.hostel.hostelmanagement.model.ComplaintStatus;
+import com.hostel.hostelmanagement.model.ComplaintType;
+import com.hostel.hostelmanagement.model.ComplaintView;
+import com.hostel.hostelmanagement.repository.ComplaintViewRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Word search over complaint descriptions and locations, answered from ComplaintTextIndex in
+// memory; only the page of matches is read from the database, by primary key.
+//
+// The index is built from the complaints table in the background, started by the first
+// scheduled run after startup; searches answer 503 until it is ready.
+// Afterwards, committed status change events (which include new and imported complaints) only
+// queue the complaint id; each run re-reads the queued complaints in batches and applies them,
+// and a search applies what is queued before answering, so wardens see their own changes.
+@Service
+public class ComplaintSearchService {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final String SELECT = "SELECT id, complaint_type, status, created_at, location, description FROM complaints";
+
+    private record Row(UUID id, ComplaintType type, ComplaintStatus status, LocalDateTime createdAt,
+                       String location, String description) {
+
+        static Row map(ResultSet rs, int rowNum) throws SQLException {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            return new Row(rs.getObject("id", UUID.class), ComplaintType.valueOf(rs.getString("complaint_type")),
+                    ComplaintStatus.valueOf(rs.getString("status")), createdAt == null ? null : createdAt.toLocalDateTime(),
+                    rs.getString("location"), rs.getString("description"));
+        }
+
+        void putInto(ComplaintTextIndex target) {
+            target.put(id, type, status, createdAt, location, description);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ComplaintViewRepository complaintViewRepository;
+    private final TransactionTemplate readOnly;
+    private final Executor rebuildExecutor;
+    private final AtomicBoolean building = new AtomicBoolean();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // One applier at a time, so a complaint read earlier can never overwrite one read later
+    private final Lock applying = new ReentrantLock();
+    private final Queue<UUID> changed = new ConcurrentLinkedQueue<>();
+    private volatile ComplaintTextIndex index;
+
+    public ComplaintSearchService(JdbcTemplate jdbcTemplate,
+                                  ComplaintViewRepository complaintViewRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Qualifier(SchedulingConfig.REBUILD_EXECUTOR) Executor rebuildExecutor,
+                                  MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.complaintViewRepository = complaintViewRepository;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.rebuildExecutor = rebuildExecutor;
+        Gauge.builder("search.index.complaints", this, s -> s.index == null ? 0 : s.index.size())
+                .description("Complaints in the in-memory search index")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onComplaintStatusChanged(ComplaintStatusChangedEvent event) {
+        changed.add(event.complaintId());
+    }
+
+    public ComplaintSearchResultDto search(String query, ComplaintType type, ComplaintStatus status, int limit) {
+        if (ComplaintTextIndex.tokenize(query).isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain at least one word.");
+        }
+        if (index == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Search index is still being built");
+        }
+        if (!changed.isEmpty()) {
+            applyChanges();
+        }
+
+        ComplaintTextIndex.Result result;
+        lock.readLock().lock();
+        try {
+            result = index.search(query, type, status, Math.clamp(limit, 1, ComplaintQuery.MAX_LIMIT));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<UUID, ComplaintView> rows = complaintViewRepository.findAllById(result.ids()).stream()
+                .collect(Collectors.toMap(ComplaintView::getComplaintId, Function.identity()));
+        List<ComplaintDto> items = result.ids().stream()
+                .map(rows::get)
+                .filter(row -> row != null)
+                .map(DtoMapper::toComplaintDto)
+                .toList();
+        return new ComplaintSearchResultDto(result.totalMatches(), items);
+    }
+
+    // Starts building the index on the first run (again after a failed build), then keeps it
+    // current. The build runs on the rebuild executor, so this never holds a scheduler thread
+    // for longer than it takes to apply the queued changes.
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.search.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (index != null) {
+            applyChanges();
+        } else if (building.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    building.set(false);
+                }
+            });
+        }
+    }
+
+    // Reads every complaint once, streaming, into a fresh index that replaces the current one.
+    // Changes committed meanwhile stay queued and are applied on top.
+    public void rebuild() {
+        ComplaintTextIndex fresh = new ComplaintTextIndex();
+        readOnly.executeWithoutResult(tx -> jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(SELECT + " ORDER BY created_at, id");
+            statement.setFetchSize(LOAD_BATCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> Row.map(rs, 0).putInto(fresh)));
+
+        applying.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                index = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            applying.unlock();
+        }
+        applyChanges();
+    }
+
+    private void applyChanges() {
+        applying.lock();
+        try {
+            List<UUID> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+            UUID id;
+            while ((id = changed.poll()) != null) {
+                batch.add(id);
+                if (batch.size() == LOAD_BATCH_SIZE) {
+                    load(batch);
+                    batch.clear();
+                }
+            }
+            load(batch);
+        } finally {
+            applying.unlock();
+        }
+    }
+
+    // The database is read outside the lock; searches are only held up while rows are applied
+    private void load(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Row> rows = jdbcTemplate.query(
+                SELECT + " WHERE id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")",
+                Row::map, ids.toArray());
+
+        lock.writeLock().lock();
+        try {
+            rows.forEach(row -> row.putInto(index));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
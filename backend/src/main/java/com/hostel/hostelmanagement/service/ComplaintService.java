@@ -2,17 +2,25 @@ package com.hostel.hostelmanagement.service;
 
 import java.util.List;
 
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.hostel.hostelmanagement.dto.ComplaintCursor;
+import com.hostel.hostelmanagement.dto.ComplaintQuery;
 import com.hostel.hostelmanagement.dto.ComplaintRequestDto;
 import com.hostel.hostelmanagement.dto.ComplaintResponseDto;
+import com.hostel.hostelmanagement.dto.CursorPage;
+import com.hostel.hostelmanagement.dto.DtoMapper;
+import com.hostel.hostelmanagement.event.ComplaintStatusChangedEvent;
 import com.hostel.hostelmanagement.model.Complaint;
+import com.hostel.hostelmanagement.model.ComplaintView;
 import com.hostel.hostelmanagement.model.ComplaintStatus;
 import com.hostel.hostelmanagement.model.Role;
 import com.hostel.hostelmanagement.model.User;
 import com.hostel.hostelmanagement.repository.ComplaintRepository;
-import com.hostel.hostelmanagement.repository.UserRepository;
+import com.hostel.hostelmanagement.repository.ComplaintViewRepository;
+import com.hostel.hostelmanagement.security.AuthenticatedUser;
 
 import lombok.AllArgsConstructor;
 
@@ -21,46 +29,39 @@ import lombok.AllArgsConstructor;
 public class ComplaintService {
 
     private final ComplaintRepository complaintRepository;
-    private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final ComplaintViewRepository complaintViewRepository;
+    private final ComplaintViewProjector complaintViewProjector;
+    private final UserCache userCache;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public Complaint createComplaint(ComplaintRequestDto complaintDto) {
-        Complaint complaint = getComplaint(complaintDto, userRepository);
+        Complaint complaint = getComplaint(complaintDto, userCache);
 
         Complaint savedComplaint = complaintRepository.save(complaint);
+        complaintViewProjector.refresh(savedComplaint.getId());
+        eventPublisher.publishEvent(ComplaintStatusChangedEvent.of(savedComplaint, null));
 
         // Notify all wardens about the new complaint
-        List<User> wardens = userRepository.findByRole(Role.WARDEN);
+        List<User> wardens = userCache.findByRole(Role.WARDEN);
         String subject = "New Complaint Submitted: " + savedComplaint.getComplaintType();
-        String body = "A new complaint has been submitted.\n\nStudent: " + savedComplaint.getStudent().getFullName() + "\nType: " + savedComplaint.getComplaintType() + "\nLocation: " + savedComplaint.getLocation() + "\nDescription: " + savedComplaint.getDescription() + "\n\nPlease log in to the system to review it.";
+        String body = "A new complaint has been submitted.\n\nStudent: " + AuthenticatedUser.current().getFullName() + "\nType: " + savedComplaint.getComplaintType() + "\nLocation: " + savedComplaint.getLocation() + "\nDescription: " + savedComplaint.getDescription() + "\n\nPlease log in to the system to review it.";
 
         for (User warden : wardens) {
-            notificationService.sendNotification(warden.getEmail(), subject, body);
+            outboxService.enqueue(warden.getEmail(), subject, body);
         }
 
         return savedComplaint;
     }
 
-    private ComplaintResponseDto mapToDto(Complaint complaint) {
-        ComplaintResponseDto dto = new ComplaintResponseDto();
-        dto.setId(complaint.getId());  // ✅ Directly assign UUID
-        dto.setComplaintType(String.valueOf(complaint.getComplaintType()));
-        dto.setLocation(complaint.getLocation());
-        dto.setDescription(complaint.getDescription());
-        dto.setStatus(complaint.getStatus().name());
-        dto.setCreatedAt(complaint.getCreatedAt());
-        if (complaint.getAssignedTo() != null) {
-            dto.setAssignedToName(complaint.getAssignedTo().getFullName());
-        }
-        dto.setStudentName(complaint.getStudent().getFullName());
-        return dto;
-    }
 
 
 
-    private static Complaint getComplaint(ComplaintRequestDto complaintDto, UserRepository userRepository) {
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User student = userRepository.findByEmail(userEmail)
+    // The student is returned with the complaint, so it is loaded (from the cache) rather than
+    // referenced by id
+    private static Complaint getComplaint(ComplaintRequestDto complaintDto, UserCache userCache) {
+        User student = userCache.findById(AuthenticatedUser.current().getId())
                 .orElseThrow(() -> new RuntimeException("Student not found"));
 
         Complaint complaint = new Complaint();
@@ -72,16 +73,15 @@ public class ComplaintService {
         return complaint;
     }
 
-    public List<ComplaintResponseDto> getComplaintsForCurrentUser() {
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User student = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("Student not found"));
-
-        List<Complaint> complaints = complaintRepository.findByStudentId(student.getId());
+    public CursorPage<ComplaintResponseDto> getComplaintsForCurrentUser(ComplaintQuery query) {
+        // Students only ever see their own complaints, whatever was passed in
+        query.setStudentId(AuthenticatedUser.current().getId());
+        int limit = query.effectiveLimit();
+        List<ComplaintView> complaints = complaintViewRepository.findPage(query, limit + 1);
 
-        return complaints.stream()
-                .map(this::mapToDto)
-                .toList();
+        return CursorPage.of(complaints, limit,
+                v -> new ComplaintCursor(v.getCreatedAt(), v.getComplaintId()).encode(),
+                DtoMapper::toComplaintResponseDto);
     }
 
 }
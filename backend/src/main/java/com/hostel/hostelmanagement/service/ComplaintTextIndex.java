@@ -0,0 +1,192 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.model.ComplaintStatus;
+import com.hostel.hostelmanagement.model.ComplaintType;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+// Inverted index over complaint descriptions and locations: word -> ascending array of document
+// numbers. Documents are numbered as they are added, and their type, status and creation time
+// sit in parallel primitive arrays, so a query touches a few int arrays and nothing else:
+// walk the shortest posting list, advance a cursor through each of the others, check the
+// filters, keep the newest.
+//
+// Not thread-safe; ComplaintSearchService guards it with a read/write lock.
+final class ComplaintTextIndex {
+
+    private static final ComplaintType[] TYPES = ComplaintType.values();
+    private static final ComplaintStatus[] STATUSES = ComplaintStatus.values();
+
+    record Result(int totalMatches, List<UUID> ids) {
+    }
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<UUID, Integer> documents = new HashMap<>();
+    private UUID[] ids = new UUID[1024];
+    private long[] createdAt = new long[1024];
+    private byte[] types = new byte[1024];
+    private byte[] statuses = new byte[1024];
+    private int size;
+
+    // Adds a complaint, or updates type and status if it is already indexed. Descriptions and
+    // locations never change after a complaint is filed, so the words are only indexed once.
+    void put(UUID id, ComplaintType type, ComplaintStatus status, LocalDateTime created, String location, String description) {
+        Integer existing = documents.get(id);
+        if (existing != null) {
+            types[existing] = (byte) type.ordinal();
+            statuses[existing] = (byte) status.ordinal();
+            return;
+        }
+        if (size == ids.length) {
+            int capacity = size * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            types = Arrays.copyOf(types, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+        }
+        int doc = size++;
+        ids[doc] = id;
+        createdAt[doc] = created == null ? Long.MIN_VALUE : sortKey(created);
+        types[doc] = (byte) type.ordinal();
+        statuses[doc] = (byte) status.ordinal();
+        documents.put(id, doc);
+
+        Set<String> words = new LinkedHashSet<>(tokenize(location));
+        words.addAll(tokenize(description));
+        for (String word : words) {
+            postings.computeIfAbsent(word, w -> new Postings()).add(doc);
+        }
+    }
+
+    // Complaints containing every word of the query, newest first. type and status are optional.
+    Result search(String query, ComplaintType type, ComplaintStatus status, int limit) {
+        List<Postings> lists = new ArrayList<>();
+        for (String word : new LinkedHashSet<>(tokenize(query))) {
+            Postings list = postings.get(word);
+            if (list == null) {
+                return new Result(0, List.of());
+            }
+            lists.add(list);
+        }
+        if (lists.isEmpty()) {
+            return new Result(0, List.of());
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        // Min-heap of the newest matches seen so far
+        Comparator<Integer> newest = Comparator.<Integer>comparingLong(doc -> createdAt[doc]).thenComparingInt(doc -> doc);
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, newest);
+        int total = 0;
+        Postings shortest = lists.get(0);
+        int[] cursors = new int[lists.size()];
+        for (int l = 1; l < lists.size(); l++) {
+            cursors[l] = lists.get(l).size - 1;
+        }
+        // Highest document numbers first: they are usually the newest, so the heap fills with
+        // keepers early and most later matches are rejected with one comparison
+        candidates:
+        for (int i = shortest.size - 1; i >= 0; i--) {
+            int doc = shortest.docs[i];
+            if (type != null && types[doc] != type.ordinal() || status != null && statuses[doc] != status.ordinal()) {
+                continue;
+            }
+            for (int l = 1; l < lists.size(); l++) {
+                Postings list = lists.get(l);
+                cursors[l] = list.seekDown(doc, cursors[l]);
+                if (cursors[l] < 0) {
+                    // Every remaining candidate is lower still, so none can be in this list
+                    break candidates;
+                }
+                if (list.docs[cursors[l]] != doc) {
+                    continue candidates;
+                }
+            }
+            total++;
+            if (top.size() < limit) {
+                top.add(doc);
+            } else if (limit > 0 && newest.compare(doc, top.peek()) > 0) {
+                top.poll();
+                top.add(doc);
+            }
+        }
+
+        UUID[] newestFirst = new UUID[top.size()];
+        for (int i = newestFirst.length - 1; i >= 0; i--) {
+            newestFirst[i] = ids[top.poll()];
+        }
+        return new Result(total, List.of(newestFirst));
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Lower-cased runs of letters and digits; single letters are dropped, single digits kept
+    // (room and block numbers)
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start > 1 || Character.isDigit(text.charAt(start))) {
+                    words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                }
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    private static long sortKey(LocalDateTime created) {
+        return created.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + created.getNano();
+    }
+
+    // Documents are numbered in insertion order, so appending keeps every list sorted
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        // Position of the last document <= doc at or below from, or -1. Gallops down and then
+        // binary-searches, so skipping far ahead in a long list stays cheap.
+        int seekDown(int doc, int from) {
+            if (from < 0 || docs[from] <= doc) {
+                return from;
+            }
+            int high = from;
+            int step = 1;
+            int low = from - step;
+            while (low >= 0 && docs[low] > doc) {
+                high = low;
+                step <<= 1;
+                low = from - step;
+            }
+            int found = Arrays.binarySearch(docs, Math.max(low, 0), high, doc);
+            return found >= 0 ? found : -found - 2;
+        }
+    }
+}
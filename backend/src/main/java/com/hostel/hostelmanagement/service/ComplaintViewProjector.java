@@ -0,0 +1,46 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.repository.ComplaintViewRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+// Keeps the complaint_view read model in step with complaints, tickets and users.
+// Rows are never patched field by field: refresh() deletes them and re-derives them from the
+// source tables with one INSERT ... SELECT, so a write path only has to say which complaints it
+// touched and the projection cannot drift from what was actually committed.
+@Service
+@AllArgsConstructor
+public class ComplaintViewProjector {
+
+    private final ComplaintViewRepository complaintViewRepository;
+
+    // Must join the transaction that makes the change, so the view commits (or rolls back) with it.
+    // Two statements whatever the number of complaints.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(Collection<UUID> complaintIds) {
+        if (complaintIds.isEmpty()) {
+            return;
+        }
+        complaintViewRepository.deleteByComplaintIdIn(complaintIds);
+        complaintViewRepository.insertFromSource(complaintIds);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(UUID complaintId) {
+        refresh(List.of(complaintId));
+    }
+
+    // Regenerates the whole view, e.g. after data was changed outside the application or a
+    // user was renamed. Readers keep seeing the old rows until it commits.
+    @Transactional
+    public int rebuild() {
+        complaintViewRepository.deleteAllRows();
+        return complaintViewRepository.insertAllFromSource();
+    }
+}
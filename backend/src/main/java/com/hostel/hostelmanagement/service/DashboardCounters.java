@@ -0,0 +1,107 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.event.ComplaintStatusChangedEvent;
+import com.hostel.hostelmanagement.event.TicketStatusChangedEvent;
+import com.hostel.hostelmanagement.model.ComplaintStatus;
+import com.hostel.hostelmanagement.model.TicketStatus;
+import com.hostel.hostelmanagement.repository.ComplaintRepository;
+import com.hostel.hostelmanagement.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// In-memory complaint/ticket counts per status, kept up to date from status change events
+// so the dashboard never has to hit the database.
+//
+// Events are applied after the transaction commits, so rolled-back changes are never counted.
+// Anything the events miss (direct SQL, other nodes, a crash between commit and listener) is
+// corrected by the periodic reconciliation, which also seeds the counters at startup.
+@Component
+@RequiredArgsConstructor
+public class DashboardCounters {
+
+    private final ComplaintRepository complaintRepository;
+    private final TicketRepository ticketRepository;
+
+    // The maps are filled once and never modified afterwards, so lookups need no locking.
+    private final Map<ComplaintStatus, LongAdder> complaintsByStatus = newCounters(ComplaintStatus.class);
+    private final Map<TicketStatus, LongAdder> ticketsByStatus = newCounters(TicketStatus.class);
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onComplaintStatusChanged(ComplaintStatusChangedEvent event) {
+        move(complaintsByStatus, event.previousStatus(), event.newStatus());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketStatusChanged(TicketStatusChangedEvent event) {
+        move(ticketsByStatus, event.previousStatus(), event.newStatus());
+    }
+
+    public long complaints() {
+        return complaintsByStatus.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long complaints(ComplaintStatus status) {
+        return complaintsByStatus.get(status).sum();
+    }
+
+    public long tickets(TicketStatus status) {
+        return ticketsByStatus.get(status).sum();
+    }
+
+    // Runs once at startup and then every few minutes. Corrections are applied as deltas rather
+    // than resets, so readers never observe a counter dropping to zero mid-update.
+    //
+    // Each delta is the database count minus the counter as it was just before the count was read,
+    // so events applied while the query runs (or before the correction lands) stay counted, once.
+    // Only an event committed before the read whose listener had not yet run when the counters were
+    // copied is counted twice, until the next run.
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.dashboard.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Map<ComplaintStatus, Long> complaintsSeen = snapshot(complaintsByStatus, ComplaintStatus.class);
+        correct(complaintsByStatus, complaintsSeen, complaintRepository.countGroupedByStatus(), ComplaintStatus.class);
+        Map<TicketStatus, Long> ticketsSeen = snapshot(ticketsByStatus, TicketStatus.class);
+        correct(ticketsByStatus, ticketsSeen, ticketRepository.countGroupedByStatus(), TicketStatus.class);
+    }
+
+    private static <S extends Enum<S>> void move(Map<S, LongAdder> counters, S from, S to) {
+        if (from == to) {
+            return;
+        }
+        if (from != null) {
+            counters.get(from).decrement();
+        }
+        if (to != null) {
+            counters.get(to).increment();
+        }
+    }
+
+    private static <S extends Enum<S>> Map<S, Long> snapshot(Map<S, LongAdder> counters, Class<S> type) {
+        Map<S, Long> snapshot = new EnumMap<>(type);
+        counters.forEach((status, counter) -> snapshot.put(status, counter.sum()));
+        return snapshot;
+    }
+
+    private static <S extends Enum<S>> void correct(Map<S, LongAdder> counters, Map<S, Long> seen, List<Object[]> rows,
+                                                    Class<S> type) {
+        Map<S, Long> actual = new EnumMap<>(type);
+        for (Object[] row : rows) {
+            actual.put(type.cast(row[0]), (Long) row[1]);
+        }
+        counters.forEach((status, counter) -> counter.add(actual.getOrDefault(status, 0L) - seen.get(status)));
+    }
+
+    private static <S extends Enum<S>> Map<S, LongAdder> newCounters(Class<S> type) {
+        Map<S, LongAdder> counters = new EnumMap<>(type);
+        for (S status : type.getEnumConstants()) {
+            counters.put(status, new LongAdder());
+        }
+        return counters;
+    }
+}
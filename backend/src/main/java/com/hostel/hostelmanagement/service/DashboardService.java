@@ -3,8 +3,6 @@ package com.hostel.hostelmanagement.service;
 import com.hostel.hostelmanagement.dto.DashboardStatsDto;
 import com.hostel.hostelmanagement.model.ComplaintStatus;
 import com.hostel.hostelmanagement.model.TicketStatus;
-import com.hostel.hostelmanagement.repository.ComplaintRepository;
-import com.hostel.hostelmanagement.repository.TicketRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,16 +10,16 @@ import org.springframework.stereotype.Service;
 @AllArgsConstructor
 public class DashboardService {
 
-    private final ComplaintRepository complaintRepository;
-    private final TicketRepository ticketRepository;
+    // Served entirely from memory, see DashboardCounters
+    private final DashboardCounters dashboardCounters;
 
     public DashboardStatsDto getDashboardStats() {
         return DashboardStatsDto.builder()
-                .totalComplaints(complaintRepository.count())
-                .pendingComplaints(complaintRepository.countByStatus(ComplaintStatus.SUBMITTED))
-                .completedComplaints(complaintRepository.countByStatus(ComplaintStatus.COMPLETED))
-                .openTickets(ticketRepository.countByStatus(TicketStatus.OPEN))
-                .resolvedTickets(ticketRepository.countByStatus(TicketStatus.RESOLVED))
+                .totalComplaints(dashboardCounters.complaints())
+                .pendingComplaints(dashboardCounters.complaints(ComplaintStatus.SUBMITTED))
+                .completedComplaints(dashboardCounters.complaints(ComplaintStatus.COMPLETED))
+                .openTickets(dashboardCounters.tickets(TicketStatus.OPEN))
+                .resolvedTickets(dashboardCounters.tickets(TicketStatus.RESOLVED))
                 .build();
     }
 }
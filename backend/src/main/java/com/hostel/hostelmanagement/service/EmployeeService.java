@@ -1,15 +1,22 @@
 package com.hostel.hostelmanagement.service;
 
 import com.hostel.hostelmanagement.dto.CleaningTaskDto;
+import com.hostel.hostelmanagement.dto.DtoMapper;
+import com.hostel.hostelmanagement.dto.TicketDto;
 import com.hostel.hostelmanagement.dto.TicketResolutionDto;
 import com.hostel.hostelmanagement.model.*;
 import com.hostel.hostelmanagement.repository.ComplaintRepository;
+import com.hostel.hostelmanagement.repository.ComplaintViewRepository;
 import com.hostel.hostelmanagement.repository.TicketRepository;
-import com.hostel.hostelmanagement.repository.UserRepository;
+import com.hostel.hostelmanagement.security.AuthenticatedUser;
+import com.hostel.hostelmanagement.event.ComplaintStatusChangedEvent;
+import com.hostel.hostelmanagement.event.TicketStatusChangedEvent;
 import lombok.AllArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,66 +27,101 @@ import java.util.UUID;
 public class EmployeeService {
 
     private final ComplaintRepository complaintRepository;
+    private final ComplaintViewRepository complaintViewRepository;
+    private final ComplaintViewProjector complaintViewProjector;
     private final TicketRepository ticketRepository;
-    private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final OutboxService outboxService;
+    private final ResolutionLatencyMetrics resolutionLatencyMetrics;
+    private final ApplicationEventPublisher eventPublisher;
 
     // --- Cleaner Methods ---
     public List<Complaint> getActiveCleaningTasks() {
         return complaintRepository.findByComplaintTypeAndStatus(ComplaintType.CLEANER, ComplaintStatus.IN_PROGRESS);
     }
 
+    // Only the assigned cleaner may complete a task, and only once: a repeated request would
+    // notify the student again and record the resolution time twice.
     @Transactional
     public Complaint completeCleaningTask(UUID complaintId) {
-        Complaint complaint = complaintRepository.findById(complaintId)
+        Complaint complaint = complaintRepository.findByIdForUpdate(complaintId)
                 .orElseThrow(() -> new RuntimeException("Complaint not found"));
-
+        if (complaint.getAssignedTo() == null
+                || !complaint.getAssignedTo().getId().equals(AuthenticatedUser.current().getId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "This task is not assigned to you.");
+        }
+        if (complaint.getStatus() != ComplaintStatus.IN_PROGRESS) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "This task is " + complaint.getStatus() + ", not in progress.");
+        }
+
+        ComplaintStatus previousStatus = complaint.getStatus();
         complaint.setStatus(ComplaintStatus.COMPLETED);
         Complaint savedComplaint = complaintRepository.save(complaint);
+        complaintViewProjector.refresh(savedComplaint.getId());
+        eventPublisher.publishEvent(ComplaintStatusChangedEvent.of(savedComplaint, previousStatus));
+        resolutionLatencyMetrics.completed(savedComplaint,
+                savedComplaint.getAssignedTo() == null ? null : savedComplaint.getAssignedTo().getId(),
+                savedComplaint.getAssignedAt(), LocalDateTime.now());
 
         // Notify student that their complaint has been completed
         String subject = "Your Complaint has been Resolved";
         String body = "Dear " + savedComplaint.getStudent().getFullName() + ",\n\nYour cleaning complaint regarding '" + savedComplaint.getDescription() + "' has been marked as completed.\n\nThank you,\nHostel Management";
-        notificationService.sendNotification(savedComplaint.getStudent().getEmail(), subject, body);
+        outboxService.enqueue(savedComplaint.getStudent().getEmail(), subject, body);
 
         return savedComplaint;
     }
 
-    public List<Ticket> getAssignedTickets() {
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User electrician = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("Electrician not found"));
-        return ticketRepository.findByAssignedToIdAndStatusNot(electrician.getId(), TicketStatus.RESOLVED);
+    // Served from complaint_view: the ticket, its complaint, assignee and warden in one row
+    public List<TicketDto> getAssignedTickets() {
+        return complaintViewRepository.findByTicketAssignedToIdAndTicketStatusNot(AuthenticatedUser.current().getId(),
+                        TicketStatus.RESOLVED)
+                .stream()
+                .map(DtoMapper::toTicketDto)
+                .toList();
     }
 
+    // Same rules as completeCleaningTask: the assigned electrician only, and only once
     @Transactional
     public Ticket resolveTicket(UUID ticketId, TicketResolutionDto resolutionDto) {
-        Ticket ticket = ticketRepository.findById(ticketId)
+        Ticket ticket = ticketRepository.findByIdForUpdate(ticketId)
                 .orElseThrow(() -> new RuntimeException("Ticket not found"));
-
+        if (!ticket.getAssignedTo().getId().equals(AuthenticatedUser.current().getId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "This ticket is not assigned to you.");
+        }
+        if (ticket.getStatus() == TicketStatus.RESOLVED || ticket.getStatus() == TicketStatus.CLOSED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "This ticket is already " + ticket.getStatus() + ".");
+        }
+
+        TicketStatus previousTicketStatus = ticket.getStatus();
         ticket.setStatus(TicketStatus.RESOLVED);
         ticket.setResolutionNotes(resolutionDto.getResolutionNotes());
         ticket.setResolvedAt(LocalDateTime.now());
 
         // ✅ Also update the complaint:
         Complaint complaint = ticket.getComplaint();
+        ComplaintStatus previousComplaintStatus = complaint.getStatus();
         complaint.setStatus(ComplaintStatus.COMPLETED);
 
         complaintRepository.save(complaint); // <- Make sure to inject this
 
         Ticket savedTicket = ticketRepository.save(ticket);
+        complaintViewProjector.refresh(complaint.getId());
+        eventPublisher.publishEvent(ComplaintStatusChangedEvent.of(complaint, previousComplaintStatus));
+        eventPublisher.publishEvent(TicketStatusChangedEvent.of(savedTicket, previousTicketStatus));
+        resolutionLatencyMetrics.completed(complaint, savedTicket.getAssignedTo().getId(),
+                complaint.getAssignedAt() != null ? complaint.getAssignedAt() : savedTicket.getCreatedAt(),
+                savedTicket.getResolvedAt());
 
         // Notify student and warden about the resolution
         String subject = "Ticket Resolved: " + savedTicket.getTicketNumber();
         String studentBody = "Dear " + savedTicket.getComplaint().getStudent().getFullName() + ",\n\nTicket "
                 + savedTicket.getTicketNumber() + " has been resolved.\n\nResolution Notes: "
                 + savedTicket.getResolutionNotes() + "\n\nRegards,\nHostel Management";
-        notificationService.sendNotification(savedTicket.getComplaint().getStudent().getEmail(), subject, studentBody);
+        outboxService.enqueue(savedTicket.getComplaint().getStudent().getEmail(), subject, studentBody);
 
         String wardenBody = "Hello " + savedTicket.getWarden().getFullName() + ",\n\nTicket "
                 + savedTicket.getTicketNumber() + " assigned to " + savedTicket.getAssignedTo().getFullName()
                 + " has been resolved.";
-        notificationService.sendNotification(savedTicket.getWarden().getEmail(), subject, wardenBody);
+        outboxService.enqueue(savedTicket.getWarden().getEmail(), subject, wardenBody);
 
         return savedTicket;
     }
@@ -0,0 +1,240 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.config.SchedulingConfig;
+import com.hostel.hostelmanagement.dto.HotSpotDto;
+import com.hostel.hostelmanagement.event.ComplaintStatusChangedEvent;
+import com.hostel.hostelmanagement.model.ComplaintType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Which locations generate the most complaints, per hour, day or week, answered from the
+// in-memory LocationHotSpots; the complaints table is only read to backfill and to look up
+// newly created complaints by primary key.
+//
+// The counts are backfilled from the complaints table after startup and rebuilt every hour,
+// which also corrects anything the events missed (direct SQL, other nodes); both run on the
+// rebuild executor, never on a scheduler thread. In between, committed creation events queue
+// the complaint id, and each refresh (or query) reads the queued complaints' location and
+// creation time in batches and counts them.
+@Service
+public class HotSpotService {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final String SELECT = "SELECT location, complaint_type, created_at FROM complaints";
+
+    public enum Granularity {
+        HOUR(72),
+        DAY(62),
+        WEEK(53);
+
+        private final int retained;
+
+        Granularity(int retained) {
+            this.retained = retained;
+        }
+
+        // How many of the most recent buckets are kept
+        public int retained() {
+            return retained;
+        }
+
+        // Consecutive bucket numbers for consecutive periods; weeks start on Monday
+        long bucket(LocalDateTime time) {
+            long second = time.toEpochSecond(ZoneOffset.UTC);
+            return switch (this) {
+                case HOUR -> Math.floorDiv(second, 3600);
+                case DAY -> Math.floorDiv(second, 86_400);
+                // 1970-01-01 was a Thursday
+                case WEEK -> Math.floorDiv(Math.floorDiv(second, 86_400) + 3, 7);
+            };
+        }
+
+        LocalDateTime oldestRetained(LocalDateTime now) {
+            return switch (this) {
+                case HOUR -> now.minusHours(retained);
+                case DAY -> now.minusDays(retained);
+                case WEEK -> now.minusWeeks(retained);
+            };
+        }
+    }
+
+    // LOCATION is the location as written (e.g. a room); BLOCK rolls locations up by block
+    public enum Scope {
+        LOCATION,
+        BLOCK
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnly;
+    private final Executor rebuildExecutor;
+    private final Clock clock;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // One applier at a time, and never while a rebuild swaps the counts
+    private final Lock applying = new ReentrantLock();
+    private final Queue<UUID> created = new ConcurrentLinkedQueue<>();
+    private volatile LocationHotSpots hotSpots;
+
+    @Autowired
+    public HotSpotService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                          @Qualifier(SchedulingConfig.REBUILD_EXECUTOR) Executor rebuildExecutor) {
+        this(jdbcTemplate, transactionManager, rebuildExecutor, Clock.systemDefaultZone());
+    }
+
+    HotSpotService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                   Executor rebuildExecutor, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.rebuildExecutor = rebuildExecutor;
+        this.clock = clock;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onComplaintStatusChanged(ComplaintStatusChangedEvent event) {
+        if (event.previousStatus() == null) {
+            created.add(event.complaintId());
+        }
+    }
+
+    // The limit busiest locations over the last periods hours/days/weeks, the current one included
+    public List<HotSpotDto> top(Granularity granularity, int periods, Scope scope, ComplaintType type, int limit) {
+        if (hotSpots == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Hot spot counts are still being backfilled");
+        }
+        // Counts what was just created, unless a rebuild is running; then the current counts answer
+        if (!created.isEmpty() && applying.tryLock()) {
+            try {
+                applyChanges();
+            } finally {
+                applying.unlock();
+            }
+        }
+        return hotSpots.top(granularity, periods, scope, type, Math.clamp(limit, 1, 100), LocalDateTime.now(clock)).stream()
+                .map(h -> new HotSpotDto(h.location(), h.type(), h.complaints()))
+                .toList();
+    }
+
+    // Starts the backfill on the first run (again after a failed one), then keeps the counts
+    // current. While a rebuild holds the counts, queued complaints wait for it instead of
+    // holding up the scheduler thread.
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.hotspots.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (hotSpots == null) {
+            scheduledRebuild();
+        } else if (applying.tryLock()) {
+            try {
+                applyChanges();
+            } finally {
+                applying.unlock();
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.hotspots.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${app.hotspots.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        if (rebuilding.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    // Recounts every retained complaint created before the snapshot time, streaming, into fresh
+    // counts that replace the current ones. The queue is kept meanwhile; queued complaints
+    // created before the snapshot time are already in the fresh counts and are dropped, the rest
+    // are counted on top. (A complaint whose transaction was still open when the read started is
+    // missed until the next rebuild.)
+    public void rebuild() {
+        applying.lock();
+        try {
+            LocationHotSpots fresh = new LocationHotSpots();
+            LocalDateTime snapshotAt = LocalDateTime.now(clock);
+            LocalDateTime since = Granularity.WEEK.oldestRetained(snapshotAt);
+            readOnly.executeWithoutResult(tx -> jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement(SELECT + " WHERE created_at >= ? AND created_at < ?");
+                statement.setTimestamp(1, Timestamp.valueOf(since));
+                statement.setTimestamp(2, Timestamp.valueOf(snapshotAt));
+                statement.setFetchSize(LOAD_BATCH_SIZE);
+                return statement;
+            }, (RowCallbackHandler) rs -> count(fresh, rs)));
+            hotSpots = fresh;
+            applyChanges(snapshotAt);
+        } finally {
+            applying.unlock();
+        }
+    }
+
+    private void applyChanges() {
+        applyChanges(null);
+    }
+
+    // Counts the queued complaints created at or after createdFrom (all of them when null)
+    private void applyChanges(LocalDateTime createdFrom) {
+        applying.lock();
+        try {
+            List<UUID> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+            UUID id;
+            while ((id = created.poll()) != null) {
+                batch.add(id);
+                if (batch.size() == LOAD_BATCH_SIZE) {
+                    load(batch, createdFrom);
+                    batch.clear();
+                }
+            }
+            load(batch, createdFrom);
+        } finally {
+            applying.unlock();
+        }
+    }
+
+    private void load(List<UUID> ids, LocalDateTime createdFrom) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        LocationHotSpots target = hotSpots;
+        String where = createdFrom == null ? "" : " AND created_at >= ?";
+        List<Object> args = new ArrayList<>(ids);
+        if (createdFrom != null) {
+            args.add(Timestamp.valueOf(createdFrom));
+        }
+        jdbcTemplate.query(SELECT + " WHERE id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")" + where,
+                (RowCallbackHandler) rs -> count(target, rs), args.toArray());
+    }
+
+    private static void count(LocationHotSpots target, ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        target.add(rs.getString("location"), ComplaintType.valueOf(rs.getString("complaint_type")),
+                createdAt == null ? null : createdAt.toLocalDateTime());
+    }
+}
@@ -0,0 +1,147 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.model.ComplaintType;
+import com.hostel.hostelmanagement.service.HotSpotService.Granularity;
+import com.hostel.hostelmanagement.service.HotSpotService.Scope;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Complaint counts per (location, type) in hourly, daily and weekly buckets. Each granularity
+// keeps a fixed ring of buckets indexed by bucket number; a bucket whose slot is reused for a
+// newer period is simply replaced, so old data ages out without any sweeping.
+//
+// A location is counted twice: as written (whitespace collapsed, matched case-insensitively)
+// and under its block when it names one ("Block A, Room 12" -> "Block A"). A top-K query only
+// reads the buckets of the window it asks for, so it costs the number of distinct locations
+// in that window, however many complaints there are.
+//
+// Thread-safe: counting is lock-free and may run concurrently with queries.
+final class LocationHotSpots {
+
+    private static final Pattern BLOCK = Pattern.compile("\\bblock\\s*[-#:]?\\s*([a-z0-9]+)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    record HotSpot(String location, ComplaintType type, long complaints) {
+    }
+
+    // type is null in totals over every type
+    private record Key(Scope scope, String location, ComplaintType type) {
+    }
+
+    private record Bucket(long number, Map<Key, LongAdder> counts) {
+        Bucket(long number) {
+            this(number, new ConcurrentHashMap<>());
+        }
+    }
+
+    private final Map<Granularity, AtomicReferenceArray<Bucket>> rings = new EnumMap<>(Granularity.class);
+    // Lower-cased location -> how it was first written, for display
+    private final Map<String, String> labels = new ConcurrentHashMap<>();
+
+    LocationHotSpots() {
+        for (Granularity granularity : Granularity.values()) {
+            rings.put(granularity, new AtomicReferenceArray<>(granularity.retained()));
+        }
+    }
+
+    // Counts one complaint; complaints older than a granularity's retention are not counted in it
+    void add(String location, ComplaintType type, LocalDateTime createdAt) {
+        if (location == null || type == null || createdAt == null) {
+            return;
+        }
+        String written = WHITESPACE.matcher(location.strip()).replaceAll(" ");
+        if (written.isEmpty()) {
+            return;
+        }
+        String room = written.toLowerCase(Locale.ROOT);
+        labels.putIfAbsent(room, written);
+        Key roomKey = new Key(Scope.LOCATION, room, type);
+
+        Matcher block = BLOCK.matcher(room);
+        Key blockKey = block.find() ? new Key(Scope.BLOCK, "Block " + block.group(1).toUpperCase(Locale.ROOT), type) : null;
+
+        for (Granularity granularity : Granularity.values()) {
+            Bucket bucket = bucket(granularity, granularity.bucket(createdAt));
+            if (bucket != null) {
+                bucket.counts().computeIfAbsent(roomKey, k -> new LongAdder()).increment();
+                if (blockKey != null) {
+                    bucket.counts().computeIfAbsent(blockKey, k -> new LongAdder()).increment();
+                }
+            }
+        }
+    }
+
+    // The k locations with the most complaints in the last periods buckets up to now (the current,
+    // partial one included), most first. Without a type, counts are totalled over every type.
+    List<HotSpot> top(Granularity granularity, int periods, Scope scope, ComplaintType type, int k, LocalDateTime now) {
+        AtomicReferenceArray<Bucket> ring = rings.get(granularity);
+        long current = granularity.bucket(now);
+        Map<Key, Long> totals = new HashMap<>();
+        for (long number = current - Math.clamp(periods, 1, granularity.retained()) + 1; number <= current; number++) {
+            Bucket bucket = ring.get(slot(granularity, number));
+            if (bucket == null || bucket.number() != number) {
+                continue;
+            }
+            bucket.counts().forEach((key, count) -> {
+                if (key.scope() == scope && (type == null || key.type() == type)) {
+                    Key total = type == null ? new Key(scope, key.location(), null) : key;
+                    totals.merge(total, count.sum(), Long::sum);
+                }
+            });
+        }
+
+        Comparator<Map.Entry<Key, Long>> order = Map.Entry.<Key, Long>comparingByValue()
+                .thenComparing(e -> e.getKey().location(), Comparator.reverseOrder());
+        PriorityQueue<Map.Entry<Key, Long>> top = new PriorityQueue<>(order);
+        for (Map.Entry<Key, Long> entry : totals.entrySet()) {
+            top.add(entry);
+            if (top.size() > k) {
+                top.poll();
+            }
+        }
+        List<HotSpot> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            Map.Entry<Key, Long> entry = top.poll();
+            Key key = entry.getKey();
+            result.add(new HotSpot(labels.getOrDefault(key.location(), key.location()), key.type(), entry.getValue()));
+        }
+        return result.reversed();
+    }
+
+    // The bucket for number, replacing whatever older period held its slot; null if the slot
+    // already holds a newer period, i.e. number is past retention
+    private Bucket bucket(Granularity granularity, long number) {
+        AtomicReferenceArray<Bucket> ring = rings.get(granularity);
+        int slot = slot(granularity, number);
+        while (true) {
+            Bucket bucket = ring.get(slot);
+            if (bucket != null && bucket.number() == number) {
+                return bucket;
+            }
+            if (bucket != null && bucket.number() > number) {
+                return null;
+            }
+            Bucket fresh = new Bucket(number);
+            if (ring.compareAndSet(slot, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static int slot(Granularity granularity, long number) {
+        return (int) Math.floorMod(number, (long) granularity.retained());
+    }
+}
@@ -0,0 +1,73 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.model.OutboxMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Merges outbox messages for the same recipient into a single digest email, so a warden gets one
+// mail (and we open one SMTP session) for a burst of new complaints instead of one per complaint.
+@Component
+public class NotificationCoalescer {
+
+    private final Counter mergedMessages;
+    private final DistributionSummary digestSize;
+
+    public NotificationCoalescer(MeterRegistry meterRegistry) {
+        this.mergedMessages = Counter.builder("notification.coalesced.messages")
+                .description("Messages delivered as part of a digest instead of on their own")
+                .register(meterRegistry);
+        this.digestSize = DistributionSummary.builder("notification.digest.size")
+                .description("Messages per delivered email")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    public record Digest(String recipient, String subject, String body, List<UUID> messageIds) {
+    }
+
+    // One digest per recipient, in the order the recipients first appear.
+    public List<Digest> coalesce(List<OutboxMessage> messages) {
+        Map<String, List<OutboxMessage>> byRecipient = new LinkedHashMap<>();
+        for (OutboxMessage message : messages) {
+            byRecipient.computeIfAbsent(message.getRecipient(), r -> new ArrayList<>()).add(message);
+        }
+
+        List<Digest> digests = new ArrayList<>(byRecipient.size());
+        byRecipient.forEach((recipient, group) -> digests.add(toDigest(recipient, group)));
+        return digests;
+    }
+
+    public void recordDelivered(Digest digest) {
+        int size = digest.messageIds().size();
+        digestSize.record(size);
+        if (size > 1) {
+            mergedMessages.increment(size);
+        }
+    }
+
+    private static Digest toDigest(String recipient, List<OutboxMessage> group) {
+        List<UUID> ids = group.stream().map(OutboxMessage::getId).toList();
+        if (group.size() == 1) {
+            OutboxMessage only = group.get(0);
+            return new Digest(recipient, only.getSubject(), only.getBody(), ids);
+        }
+
+        StringBuilder body = new StringBuilder("You have ")
+                .append(group.size())
+                .append(" new notifications.\n");
+        for (int i = 0; i < group.size(); i++) {
+            OutboxMessage message = group.get(i);
+            body.append("\n----- ").append(i + 1).append(". ").append(message.getSubject()).append(" -----\n\n")
+                    .append(message.getBody()).append('\n');
+        }
+        return new Digest(recipient, group.size() + " new notifications", body.toString(), ids);
+    }
+}
@@ -1,30 +1,45 @@
 package com.hostel.hostelmanagement.service;
 
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 @Service
-@AllArgsConstructor
 public class NotificationService {
 
-    private final JavaMailSender mailSender;
-
-    @Async // This makes the method execute in a separate thread
-    public void sendNotification(String to, String subject, String body) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(body);
-            // message.setFrom("noreply@yourcollege.edu"); // Optional: set a 'from' address
-
-            mailSender.send(message);
-        } catch (Exception e) {
-            // Log the exception, but don't re-throw it to avoid crashing the main thread
-            System.err.println("Failed to send email: " + e.getMessage());
-        }
+    private final BatchingMailTransport mailTransport;
+    private final Timer sentTimer;
+    private final Timer failedTimer;
+
+    public NotificationService(BatchingMailTransport mailTransport, MeterRegistry meterRegistry) {
+        this.mailTransport = mailTransport;
+        this.sentTimer = sendTimer(meterRegistry, "success");
+        this.failedTimer = sendTimer(meterRegistry, "failure");
+    }
+
+    // Hands one message to the mail server via the batching transport. Called by OutboxDispatcher;
+    // the future fails if the server rejected the message, so the outbox can retry it.
+    public CompletableFuture<Void> send(String to, String subject, String body) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(to);
+        message.setSubject(subject);
+        message.setText(body);
+        // message.setFrom("noreply@yourcollege.edu"); // Optional: set a 'from' address
+
+        long start = System.nanoTime();
+        return mailTransport.send(message).whenComplete((ok, failure) ->
+                (failure == null ? sentTimer : failedTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+
+    private static Timer sendTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("notification.send")
+                .description("Time from handing a notification to the mail transport until the server accepted it")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.model.OutboxMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Polls the outbox and delivers due messages. Safe to run on every application node at once:
+// claiming uses SKIP LOCKED plus a lease (see OutboxService.claimDue), so no message is handed
+// to two nodes, and a message is only marked SENT after the mail server accepted it.
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxService outboxService;
+    private final NotificationService notificationService;
+    private final NotificationCoalescer notificationCoalescer;
+    private final BatchingMailTransport mailTransport;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration retention;
+
+    public OutboxDispatcher(OutboxService outboxService,
+                            NotificationService notificationService,
+                            NotificationCoalescer notificationCoalescer,
+                            BatchingMailTransport mailTransport,
+                            @Value("${app.outbox.batch-size:50}") int batchSize,
+                            @Value("${app.outbox.send-timeout:PT30S}") Duration sendTimeout,
+                            @Value("${app.outbox.retention:P7D}") Duration retention) {
+        this.outboxService = outboxService;
+        this.notificationService = notificationService;
+        this.notificationCoalescer = notificationCoalescer;
+        this.mailTransport = mailTransport;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.retention = retention;
+    }
+
+    // Claims and delivers one batch per poll, so a backlog is worked off over several polls
+    // instead of holding a scheduler thread until it is empty. Returns the number of messages
+    // delivered (a digest counts every message merged into it).
+    @Scheduled(initialDelayString = "${app.outbox.poll-interval-ms:1000}",
+            fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public int dispatch() {
+        return deliver(outboxService.claimDue(batchSize));
+    }
+
+    // SENT rows are only kept for troubleshooting; without this the table grows forever
+    @Scheduled(initialDelayString = "${app.outbox.purge-interval-ms:3600000}",
+            fixedDelayString = "${app.outbox.purge-interval-ms:3600000}")
+    public int purgeSent() {
+        return outboxService.purgeSentBefore(LocalDateTime.now().minus(retention));
+    }
+
+    private int deliver(List<OutboxMessage> batch) {
+        // Digests go out through the batching transport, a few SMTP connections per batch;
+        // we wait for the whole batch, but no longer than sendTimeout
+        Map<NotificationCoalescer.Digest, CompletableFuture<Void>> sends = new LinkedHashMap<>();
+        for (NotificationCoalescer.Digest digest : notificationCoalescer.coalesce(batch)) {
+            sends.put(digest, notificationService.send(digest.recipient(), digest.subject(), digest.body()));
+        }
+        mailTransport.flush();
+
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        List<UUID> sent = new ArrayList<>();
+        sends.forEach((digest, send) -> {
+            String error = await(send, deadline);
+            if (error == null) {
+                sent.addAll(digest.messageIds());
+                notificationCoalescer.recordDelivered(digest);
+            } else {
+                System.err.println("Failed to send email to " + digest.recipient() + ": " + error);
+                digest.messageIds().forEach(id -> outboxService.markFailed(id, error));
+            }
+        });
+        outboxService.markSent(sent);
+        return sent.size();
+    }
+
+    // Returns null once the mail server accepted the message, otherwise why it was not. A send
+    // that times out is retried like a failed one; the server may still accept the original, so
+    // the recipient can occasionally get the mail twice (delivery is at least once).
+    private String await(CompletableFuture<Void> send, long deadline) {
+        try {
+            send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+        } catch (TimeoutException e) {
+            return "No answer from the mail server within " + sendTimeout;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Interrupted while waiting for the mail server";
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.model.OutboxMessage;
+import com.hostel.hostelmanagement.model.OutboxStatus;
+import com.hostel.hostelmanagement.repository.OutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Transactional outbox for notification emails.
+// enqueue() only writes a row inside the caller's transaction, so mail is sent if and only if
+// the business change commits. OutboxDispatcher later claims rows in batches and delivers them.
+@Service
+public class OutboxService {
+
+    private final OutboxRepository outboxRepository;
+    private final Duration lease;
+    private final Duration digestWindow;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final int digestLimit;
+
+    public OutboxService(OutboxRepository outboxRepository,
+                         @Value("${app.outbox.lease:PT5M}") Duration lease,
+                         @Value("${app.notifications.digest-window:PT1M}") Duration digestWindow,
+                         @Value("${app.outbox.initial-backoff:PT30S}") Duration initialBackoff,
+                         @Value("${app.outbox.max-backoff:PT1H}") Duration maxBackoff,
+                         @Value("${app.outbox.max-attempts:8}") int maxAttempts,
+                         @Value("${app.notifications.digest-limit:50}") int digestLimit) {
+        this.outboxRepository = outboxRepository;
+        this.lease = lease;
+        this.digestWindow = digestWindow;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+        this.digestLimit = digestLimit;
+    }
+
+    // Must join the transaction that makes the business change, never start its own.
+    // A message is held back for the digest window so later mail to the same recipient can be
+    // merged into it; the window is also the most a message waits because of coalescing.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String recipient, String subject, String body) {
+        OutboxMessage message = new OutboxMessage();
+        message.setRecipient(recipient);
+        message.setSubject(subject);
+        message.setBody(body);
+        message.setStatus(OutboxStatus.PENDING);
+        message.setNextAttemptAt(LocalDateTime.now().plus(digestWindow));
+        outboxRepository.save(message);
+    }
+
+    // Locks up to batchSize due messages (skipping rows other nodes hold) plus other pending
+    // messages for the same recipients that can join their digests, at most digestLimit per
+    // recipient, and leases them to this node by pushing nextAttemptAt past the lease. The lock
+    // is released on commit; the lease keeps other dispatchers away while we send. If we crash,
+    // the lease expires and the rows are retried.
+    @Transactional
+    public List<OutboxMessage> claimDue(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> due = outboxRepository.lockDue(now, Limit.of(batchSize));
+        if (due.isEmpty()) {
+            return due;
+        }
+
+        Map<UUID, OutboxMessage> claimed = new LinkedHashMap<>();
+        Map<String, Integer> perRecipient = new HashMap<>();
+        due.forEach(message -> claim(message, claimed, perRecipient));
+        Set<String> recipients = Set.copyOf(perRecipient.keySet());
+        outboxRepository.lockPendingFor(recipients, now, Limit.of(digestLimit * recipients.size()))
+                .forEach(message -> claim(message, claimed, perRecipient));
+
+        LocalDateTime leasedUntil = now.plus(lease);
+        claimed.values().forEach(message -> {
+            message.setNextAttemptAt(leasedUntil);
+            message.setLeasedUntil(leasedUntil);
+        });
+        return new ArrayList<>(claimed.values());
+    }
+
+    // Messages over a recipient's digestLimit stay locked until commit but are not leased, so the
+    // next poll picks them up
+    private void claim(OutboxMessage message, Map<UUID, OutboxMessage> claimed, Map<String, Integer> perRecipient) {
+        if (!claimed.containsKey(message.getId())
+                && perRecipient.getOrDefault(message.getRecipient(), 0) < digestLimit) {
+            claimed.put(message.getId(), message);
+            perRecipient.merge(message.getRecipient(), 1, Integer::sum);
+        }
+    }
+
+    @Transactional
+    public void markSent(Collection<UUID> ids) {
+        if (!ids.isEmpty()) {
+            outboxRepository.markSent(ids, LocalDateTime.now());
+        }
+    }
+
+    // Deletes messages delivered before the cutoff
+    @Transactional
+    public int purgeSentBefore(LocalDateTime cutoff) {
+        return outboxRepository.deleteSentBefore(cutoff);
+    }
+
+    // Retries with exponential backoff (initialBackoff * 2^(attempts-1), capped at maxBackoff)
+    // until maxAttempts is reached, then gives up and marks the message FAILED.
+    @Transactional
+    public void markFailed(UUID id, String error) {
+        outboxRepository.findById(id).ifPresent(message -> {
+            int attempts = message.getAttempts() + 1;
+            message.setAttempts(attempts);
+            message.setLeasedUntil(null);
+            message.setLastError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+            if (attempts >= maxAttempts) {
+                message.setStatus(OutboxStatus.FAILED);
+            } else {
+                message.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+            }
+        });
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
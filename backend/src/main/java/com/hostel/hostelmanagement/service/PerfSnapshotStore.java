@@ -0,0 +1,119 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.dto.PerfSnapshotDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.MetricsEndpoint;
+import org.springframework.boot.actuate.metrics.MetricsEndpoint.MetricDescriptor;
+import org.springframework.boot.actuate.metrics.MetricsEndpoint.Sample;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// What the admin perf page shows (health, uptime, memory, CPU, HTTP request count), sampled
+// every app.monitoring.snapshot-interval-ms into a fixed-size ring holding the last
+// app.monitoring.history-minutes. The page reads the latest sample and the ring, so polling it
+// never runs a health check (which hits the database) or a metrics lookup itself.
+@Component
+public class PerfSnapshotStore {
+
+    // The last sample as the Actuator endpoints returned it, for the page's current values
+    public record Latest(HealthComponent health, MetricDescriptor uptime, MetricDescriptor memUsed,
+                         MetricDescriptor memMax, MetricDescriptor cpu, MetricDescriptor httpCount,
+                         PerfSnapshotDto snapshot) {
+    }
+
+    private final HealthEndpoint healthEndpoint;
+    private final MetricsEndpoint metricsEndpoint;
+    private final PerfSnapshotDto[] ring;
+    // Index the next sample goes to, and how many of the slots are filled
+    private int next;
+    private int size;
+    // Not synchronized: the health check talks to the database, which would pin a virtual thread
+    private final Lock lock = new ReentrantLock();
+    private volatile Latest latest;
+
+    @Autowired
+    public PerfSnapshotStore(HealthEndpoint healthEndpoint,
+                             MetricsEndpoint metricsEndpoint,
+                             @Value("${app.monitoring.history-minutes:15}") int historyMinutes,
+                             @Value("${app.monitoring.snapshot-interval-ms:5000}") long snapshotIntervalMs) {
+        this(healthEndpoint, metricsEndpoint,
+                (int) Math.max(1, TimeUnit.MINUTES.toMillis(historyMinutes) / snapshotIntervalMs));
+    }
+
+    PerfSnapshotStore(HealthEndpoint healthEndpoint, MetricsEndpoint metricsEndpoint, int capacity) {
+        this.healthEndpoint = healthEndpoint;
+        this.metricsEndpoint = metricsEndpoint;
+        this.ring = new PerfSnapshotDto[capacity];
+    }
+
+    // The last sample (taking one first if none exists yet)
+    public Latest latest() {
+        Latest current = latest;
+        return current != null ? current : sample();
+    }
+
+    // The samples taken in the last `minutes` minutes (all of them if null), oldest first
+    public List<PerfSnapshotDto> history(Integer minutes) {
+        LocalDateTime since = minutes == null ? null : LocalDateTime.now().minusMinutes(minutes);
+        List<PerfSnapshotDto> history = new ArrayList<>();
+        lock.lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                PerfSnapshotDto snapshot = ring[Math.floorMod(next - size + i, ring.length)];
+                if (since == null || !snapshot.sampledAt().isBefore(since)) {
+                    history.add(snapshot);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return history;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.monitoring.snapshot-interval-ms:5000}")
+    public Latest sample() {
+        HealthComponent health = healthEndpoint.health();
+        MetricDescriptor uptime = metricsEndpoint.metric("process.uptime", null);
+        MetricDescriptor memUsed = metricsEndpoint.metric("jvm.memory.used", null);
+        MetricDescriptor memMax = metricsEndpoint.metric("jvm.memory.max", null);
+        MetricDescriptor cpu = metricsEndpoint.metric("system.cpu.usage", null);
+        MetricDescriptor httpCount = metricsEndpoint.metric("http.server.requests", null);
+        PerfSnapshotDto snapshot = new PerfSnapshotDto(LocalDateTime.now(), health.getStatus().getCode(),
+                value(uptime, "VALUE"), value(memUsed, "VALUE"), value(memMax, "VALUE"), value(cpu, "VALUE"),
+                value(httpCount, "COUNT"));
+
+        lock.lock();
+        try {
+            ring[next] = snapshot;
+            next = (next + 1) % ring.length;
+            size = Math.min(size + 1, ring.length);
+            latest = new Latest(health, uptime, memUsed, memMax, cpu, httpCount, snapshot);
+            return latest;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // null when the metric has not been registered yet (no HTTP requests so far, for example)
+    private static Double value(MetricDescriptor metric, String statistic) {
+        if (metric == null) {
+            return null;
+        }
+        for (Sample sample : metric.getMeasurements()) {
+            if (sample.getStatistic().name().equals(statistic)) {
+                return sample.getValue();
+            }
+        }
+        return null;
+    }
+}
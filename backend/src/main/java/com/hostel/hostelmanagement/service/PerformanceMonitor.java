@@ -0,0 +1,223 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.dto.PerformanceBreakdownDto;
+import com.hostel.hostelmanagement.dto.PerformanceBreakdownDto.ConnectionPool;
+import com.hostel.hostelmanagement.dto.PerformanceBreakdownDto.Endpoint;
+import com.hostel.hostelmanagement.dto.PerformanceBreakdownDto.Hibernate;
+import com.hostel.hostelmanagement.dto.PerformanceBreakdownDto.Notifications;
+import com.hostel.hostelmanagement.dto.PerformanceBreakdownDto.SlowQuery;
+import com.hostel.hostelmanagement.model.OutboxStatus;
+import com.hostel.hostelmanagement.repository.OutboxRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Samples request, Hibernate, connection pool and notification counters every few seconds and
+// keeps the last app.monitoring.window-minutes of samples. Each run turns the oldest and newest
+// sample into a PerformanceBreakdownDto, so reading it costs nothing and every figure covers the
+// same rolling window. Counters are cumulative; the window's share is the difference between the
+// two samples.
+//
+// Samples are taken one at a time under a lock; readers just get the last published breakdown.
+@Component
+public class PerformanceMonitor {
+
+    private static final int SLOWEST_QUERIES = 10;
+
+    // Cumulative count and total (nanoseconds or milliseconds) of something timed
+    private record Total(long count, double total) {
+        Total minus(Total earlier) {
+            return earlier == null ? this : new Total(count - earlier.count, total - earlier.total);
+        }
+    }
+
+    private record Sample(long nanos, Map<Meter.Id, Total> requests, Map<Meter.Id, Total> statements,
+                          Map<String, Total> queries, HibernateCounters hibernate, Total connectionWaits) {
+    }
+
+    // Hibernate's counters, copied at sample time
+    private record HibernateCounters(long queries, long statements, long entityLoads, long entityFetches,
+                                     long collectionLoads) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final EntityManagerFactory entityManagerFactory;
+    private final OutboxRepository outboxRepository;
+    private final int windowSamples;
+    private final Deque<Sample> samples = new ArrayDeque<>();
+    // Not synchronized: sampling counts the outbox over JDBC, which would pin a virtual thread
+    private final Lock sampling = new ReentrantLock();
+    private volatile PerformanceBreakdownDto latest;
+
+    public PerformanceMonitor(MeterRegistry meterRegistry,
+                              EntityManagerFactory entityManagerFactory,
+                              OutboxRepository outboxRepository,
+                              @Value("${app.monitoring.window-minutes:5}") int windowMinutes,
+                              @Value("${app.monitoring.sample-interval-ms:10000}") long sampleIntervalMs) {
+        this.meterRegistry = meterRegistry;
+        this.entityManagerFactory = entityManagerFactory;
+        this.outboxRepository = outboxRepository;
+        this.windowSamples = (int) Math.max(2, TimeUnit.MINUTES.toMillis(windowMinutes) / sampleIntervalMs + 1);
+    }
+
+    // The breakdown as of the last sample (taking one first if none exists yet)
+    public PerformanceBreakdownDto breakdown() {
+        PerformanceBreakdownDto breakdown = latest;
+        return breakdown != null ? breakdown : sample();
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.monitoring.sample-interval-ms:10000}")
+    public PerformanceBreakdownDto sample() {
+        sampling.lock();
+        try {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            Sample now = new Sample(System.nanoTime(), timerTotals(), summaryTotals(), queryTotals(statistics),
+                    copy(statistics), connectionWaits());
+            samples.addLast(now);
+            while (samples.size() > windowSamples) {
+                samples.removeFirst();
+            }
+            Sample oldest = samples.getFirst();
+
+            latest = new PerformanceBreakdownDto(
+                    LocalDateTime.now(),
+                    TimeUnit.NANOSECONDS.toSeconds(now.nanos() - oldest.nanos()),
+                    endpoints(now, oldest),
+                    hibernate(now, oldest, statistics),
+                    connectionPool(now, oldest),
+                    new Notifications(gauge("notification.executor.queue.depth"), outboxRepository.countByStatus(OutboxStatus.PENDING)));
+            return latest;
+        } finally {
+            sampling.unlock();
+        }
+    }
+
+    private List<Endpoint> endpoints(Sample now, Sample oldest) {
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (Timer timer : meterRegistry.find(RequestMetrics.LATENCY).timers()) {
+            Meter.Id id = timer.getId();
+            Total total = now.requests().get(id);
+            // Registered after the sample was taken
+            if (total == null) {
+                continue;
+            }
+            Total requests = total.minus(oldest.requests().get(id));
+            if (requests.count() == 0) {
+                continue;
+            }
+            Total statements = now.statements().getOrDefault(id, new Total(0, 0)).minus(oldest.statements().get(id));
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            endpoints.add(new Endpoint(id.getTag("method"), id.getTag("uri"), id.getTag("role"), requests.count(),
+                    requests.total() / requests.count() / 1e6,
+                    percentile(snapshot, 0.5), percentile(snapshot, 0.95), percentile(snapshot, 0.99),
+                    snapshot.max(TimeUnit.MILLISECONDS),
+                    statements.count() == 0 ? 0 : statements.total() / statements.count()));
+        }
+        endpoints.sort(Comparator.comparingDouble((Endpoint e) -> e.requests() * e.meanMs()).reversed());
+        return endpoints;
+    }
+
+    private Hibernate hibernate(Sample now, Sample oldest, Statistics statistics) {
+        HibernateCounters current = now.hibernate();
+        HibernateCounters earlier = oldest.hibernate();
+
+        List<SlowQuery> slowest = new ArrayList<>();
+        now.queries().forEach((query, total) -> {
+            Total inWindow = total.minus(oldest.queries().get(query));
+            if (inWindow.count() > 0) {
+                slowest.add(new SlowQuery(query, inWindow.count(), inWindow.total() / inWindow.count(),
+                        statistics.getQueryStatistics(query).getExecutionMaxTime()));
+            }
+        });
+        slowest.sort(Comparator.comparingDouble(SlowQuery::meanMs).reversed());
+
+        return new Hibernate(current.queries() - earlier.queries(), current.statements() - earlier.statements(),
+                current.entityLoads() - earlier.entityLoads(), current.entityFetches() - earlier.entityFetches(),
+                current.collectionLoads() - earlier.collectionLoads(),
+                slowest.subList(0, Math.min(SLOWEST_QUERIES, slowest.size())));
+    }
+
+    private ConnectionPool connectionPool(Sample now, Sample oldest) {
+        Total waits = now.connectionWaits().minus(oldest.connectionWaits());
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        Integer pending = gauge("hikaricp.connections.pending");
+        Integer active = gauge("hikaricp.connections.active");
+        return new ConnectionPool(waits.count(), waits.count() == 0 ? null : waits.total() / waits.count() / 1e6,
+                acquire == null ? 0 : acquire.max(TimeUnit.MILLISECONDS),
+                pending == null ? 0 : pending, active == null ? 0 : active);
+    }
+
+    private Map<Meter.Id, Total> timerTotals() {
+        Map<Meter.Id, Total> totals = new HashMap<>();
+        for (Timer timer : meterRegistry.find(RequestMetrics.LATENCY).timers()) {
+            totals.put(timer.getId(), new Total(timer.count(), timer.totalTime(TimeUnit.NANOSECONDS)));
+        }
+        return totals;
+    }
+
+    // Keyed by the latency timer's id, which has the same name-independent tags
+    private Map<Meter.Id, Total> summaryTotals() {
+        Map<Meter.Id, Total> totals = new HashMap<>();
+        for (DistributionSummary summary : meterRegistry.find(RequestMetrics.QUERIES).summaries()) {
+            totals.put(summary.getId().withName(RequestMetrics.LATENCY),
+                    new Total(summary.count(), summary.totalAmount()));
+        }
+        return totals;
+    }
+
+    private static Map<String, Total> queryTotals(Statistics statistics) {
+        Map<String, Total> totals = new HashMap<>();
+        for (String query : statistics.getQueries()) {
+            QueryStatistics stats = statistics.getQueryStatistics(query);
+            totals.put(query, new Total(stats.getExecutionCount(), stats.getExecutionTotalTime()));
+        }
+        return totals;
+    }
+
+    private static HibernateCounters copy(Statistics statistics) {
+        return new HibernateCounters(statistics.getQueryExecutionCount(), statistics.getPrepareStatementCount(),
+                statistics.getEntityLoadCount(), statistics.getEntityFetchCount(), statistics.getCollectionLoadCount());
+    }
+
+    private Total connectionWaits() {
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        return acquire == null ? new Total(0, 0) : new Total(acquire.count(), acquire.totalTime(TimeUnit.NANOSECONDS));
+    }
+
+    private Integer gauge(String name) {
+        Gauge gauge = meterRegistry.find(name).gauge();
+        return gauge == null ? null : (int) gauge.value();
+    }
+
+    private static double percentile(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,32 @@
+package com.hostel.hostelmanagement.service;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Counts the SQL statements Hibernate prepares on the current thread between start() and stop(),
+// so RequestMetrics can record queries per request. Installed as Hibernate's statement inspector
+// by MonitoringConfig; every statement is passed through unchanged. JdbcTemplate statements
+// do not go through Hibernate and are not counted.
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    // Statements since start(), and stops counting
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
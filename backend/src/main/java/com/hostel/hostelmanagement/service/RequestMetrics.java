@@ -0,0 +1,91 @@
+package com.hostel.hostelmanagement.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Latency and Hibernate statements of every API request, per endpoint (method + URI pattern)
+// and caller role: the http.endpoint.latency timer and the http.endpoint.queries summary.
+// Percentiles cover the last app.monitoring.window-minutes. Long-lived async requests (event
+// streams) are not recorded.
+@Component
+public class RequestMetrics implements AsyncHandlerInterceptor {
+
+    static final String LATENCY = "http.endpoint.latency";
+    static final String QUERIES = "http.endpoint.queries";
+    private static final String START = RequestMetrics.class.getName() + ".start";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration window;
+
+    public RequestMetrics(MeterRegistry meterRegistry, @Value("${app.monitoring.window-minutes:5}") int windowMinutes) {
+        this.meterRegistry = meterRegistry;
+        this.window = Duration.ofMinutes(windowMinutes);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.REQUEST) {
+            request.setAttribute(START, System.nanoTime());
+            QueryCounter.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.removeAttribute(START);
+        QueryCounter.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START);
+        if (start == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - (Long) start;
+        int queries = QueryCounter.stop();
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String[] tags = {"method", request.getMethod(), "uri", pattern == null ? "UNKNOWN" : pattern.toString(), "role", role()};
+        Timer.builder(LATENCY)
+                .description("Time to handle an API request, per endpoint and caller role")
+                .tags(tags)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .distributionStatisticExpiry(window)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(QUERIES)
+                .description("SQL statements Hibernate issued while handling an API request")
+                .tags(tags)
+                .distributionStatisticExpiry(window)
+                .register(meterRegistry)
+                .record(queries);
+    }
+
+    private static String role() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null) {
+            for (GrantedAuthority authority : authentication.getAuthorities()) {
+                if (authority.getAuthority().startsWith("ROLE_")) {
+                    return authority.getAuthority().substring("ROLE_".length());
+                }
+            }
+        }
+        return "ANONYMOUS";
+    }
+}
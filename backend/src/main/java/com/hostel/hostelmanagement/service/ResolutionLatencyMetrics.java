@@ -0,0 +1,182 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.model.Complaint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// How long complaints take: submit -> assign, assign -> resolve and submit -> complete, as
+// timers tagged by complaint type and employee (the assignee's id). Percentiles cover the last
+// app.metrics.resolution-window-days and are published with Actuator (/actuator/metrics/complaint.latency.*)
+// and summarized by MonitoringController.
+//
+// The services record each step once their transaction commits. At startup the timers are
+// backfilled with every step inside the window that happened before this bean was created;
+// steps from then on are only recorded live, so nothing is counted twice.
+@Component
+public class ResolutionLatencyMetrics {
+
+    static final String ASSIGN = "complaint.latency.assign";
+    static final String RESOLVE = "complaint.latency.resolve";
+    static final String COMPLETE = "complaint.latency.complete";
+    private static final String UNASSIGNED = "unassigned";
+
+    private static final String BACKFILL = """
+            SELECT c.complaint_type, COALESCE(t.assigned_to_id, c.assigned_to_id) AS employee_id, c.created_at,
+                   COALESCE(c.assigned_at, t.created_at) AS assigned_at,
+                   COALESCE(t.resolved_at, CASE WHEN c.status = 'COMPLETED' THEN c.updated_at END) AS completed_at
+            FROM complaints c
+            LEFT JOIN tickets t ON t.complaint_id = c.id
+            WHERE c.updated_at >= ? AND c.created_at IS NOT NULL""";
+
+    public record LatencySummary(String metric, String complaintType, String employee, long count,
+                                 double meanSeconds, double maxSeconds, Map<String, Double> percentileSeconds) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnly;
+    private final Duration window;
+    private final LocalDateTime recordingSince;
+
+    @Autowired
+    public ResolutionLatencyMetrics(MeterRegistry meterRegistry,
+                                    JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.metrics.resolution-window-days:30}") int windowDays) {
+        this(meterRegistry, jdbcTemplate, transactionManager, Duration.ofDays(windowDays), Clock.systemDefaultZone());
+    }
+
+    ResolutionLatencyMetrics(MeterRegistry meterRegistry, JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager, Duration window, Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.window = window;
+        this.recordingSince = LocalDateTime.now(clock);
+    }
+
+    // complaint was handed to employeeId at assignedAt
+    public void assigned(Complaint complaint, UUID employeeId, LocalDateTime assignedAt) {
+        String type = complaint.getComplaintType().name();
+        LocalDateTime submittedAt = complaint.getCreatedAt();
+        afterCommit(() -> record(ASSIGN, type, employeeId, submittedAt, assignedAt));
+    }
+
+    // complaint, assigned to employeeId at assignedAt (null if unknown), was completed at completedAt
+    public void completed(Complaint complaint, UUID employeeId, LocalDateTime assignedAt, LocalDateTime completedAt) {
+        String type = complaint.getComplaintType().name();
+        LocalDateTime submittedAt = complaint.getCreatedAt();
+        afterCommit(() -> {
+            record(RESOLVE, type, employeeId, assignedAt, completedAt);
+            record(COMPLETE, type, employeeId, submittedAt, completedAt);
+        });
+    }
+
+    // Runs once the application is up: one pass over the complaints changed inside the window
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        LocalDateTime since = recordingSince.minus(window);
+        readOnly.executeWithoutResult(tx -> jdbcTemplate.query(BACKFILL, (RowCallbackHandler) rs -> {
+            String type = rs.getString("complaint_type");
+            UUID employeeId = rs.getObject("employee_id", UUID.class);
+            LocalDateTime submittedAt = time(rs, "created_at");
+            LocalDateTime assignedAt = time(rs, "assigned_at");
+            LocalDateTime completedAt = time(rs, "completed_at");
+            if (inWindow(assignedAt, since)) {
+                record(ASSIGN, type, employeeId, submittedAt, assignedAt);
+            }
+            if (inWindow(completedAt, since)) {
+                record(RESOLVE, type, employeeId, assignedAt, completedAt);
+                record(COMPLETE, type, employeeId, submittedAt, completedAt);
+            }
+        }, Timestamp.valueOf(since)));
+    }
+
+    // Count, mean, max and p50/p95/p99 of every timer, in seconds
+    public List<LatencySummary> summaries() {
+        List<LatencySummary> summaries = new ArrayList<>();
+        for (String metric : List.of(ASSIGN, RESOLVE, COMPLETE)) {
+            for (Timer timer : meterRegistry.find(metric).timers()) {
+                HistogramSnapshot snapshot = timer.takeSnapshot();
+                Map<String, Double> percentiles = new LinkedHashMap<>();
+                for (ValueAtPercentile value : snapshot.percentileValues()) {
+                    percentiles.put("p" + Math.round(value.percentile() * 100), value.value(TimeUnit.SECONDS));
+                }
+                summaries.add(new LatencySummary(metric, timer.getId().getTag("type"), timer.getId().getTag("employee"),
+                        snapshot.count(), snapshot.mean(TimeUnit.SECONDS),
+                        snapshot.max(TimeUnit.SECONDS), percentiles));
+            }
+        }
+        return summaries;
+    }
+
+    private void record(String metric, String type, UUID employeeId, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            return;
+        }
+        Timer.builder(metric)
+                .description(switch (metric) {
+                    case ASSIGN -> "Time from a complaint being submitted until it was assigned to an employee";
+                    case RESOLVE -> "Time from a complaint being assigned until the employee resolved it";
+                    default -> "Time from a complaint being submitted until it was completed";
+                })
+                .tags("type", type, "employee", employeeId == null ? UNASSIGNED : employeeId.toString())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMinutes(1))
+                .maximumExpectedValue(Duration.ofDays(60))
+                .distributionStatisticExpiry(window)
+                .register(meterRegistry)
+                .record(Duration.between(from, to));
+    }
+
+    private boolean inWindow(LocalDateTime time, LocalDateTime since) {
+        return time != null && !time.isBefore(since) && time.isBefore(recordingSince);
+    }
+
+    private static LocalDateTime time(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    // Rolled-back steps are never recorded
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,177 @@
+package com.hostel.hostelmanagement.service;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Hands out ticket numbers like TKT-20261017-000123, sequential per day and unique across nodes.
+// Each node reserves a block of block-size numbers from ticket_number_counters in a short
+// transaction of its own, then serves them from memory with a single atomic increment; only
+// one ticket per block touches the database. Numbers left in a block when a node stops
+// are skipped, so a day's sequence can have gaps but never duplicates.
+//
+// Reservations run on a dedicated one-connection pool, not the application's pool. Callers are
+// inside a transaction that already holds a pooled connection; if they also borrowed a second
+// one to reserve, a burst of them could take every connection and wait for each other forever.
+@Component
+public class TicketNumberAllocator implements DisposableBean {
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final DataSource reservations;
+    private final int blockSize;
+    private final Clock clock;
+    private final AtomicReference<Block> current = new AtomicReference<>();
+    // Not synchronized: a virtual thread blocking on JDBC inside a monitor would pin its carrier
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    @Autowired
+    public TicketNumberAllocator(DataSource dataSource,
+                                 @Value("${app.tickets.number-block-size:50}") int blockSize) {
+        this(reservationPool(dataSource), blockSize, Clock.systemDefaultZone());
+    }
+
+    TicketNumberAllocator(DataSource reservations, int blockSize, Clock clock) {
+        this.reservations = reservations;
+        this.blockSize = blockSize;
+        this.clock = clock;
+    }
+
+    // A copy of the application's pool settings (same database and credentials), one connection
+    private static DataSource reservationPool(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                HikariConfig config = new HikariConfig();
+                dataSource.unwrap(HikariDataSource.class).copyStateTo(config);
+                config.setPoolName("ticket-numbers");
+                config.setMaximumPoolSize(1);
+                config.setMinimumIdle(0);
+                return new HikariDataSource(config);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot read the datasource settings", e);
+        }
+        // Not a pool (e.g. an embedded test database): each connection is opened fresh anyway
+        return dataSource;
+    }
+
+    @Override
+    public void destroy() {
+        if (reservations instanceof HikariDataSource pool && "ticket-numbers".equals(pool.getPoolName())) {
+            pool.close();
+        }
+    }
+
+    // A reserved range [next, end) of one day's sequence
+    private record Block(LocalDate day, AtomicLong next, long end) {
+    }
+
+    public String nextTicketNumber() {
+        LocalDate today = LocalDate.now(clock);
+        while (true) {
+            Block block = current.get();
+            if (block != null && block.day().equals(today)) {
+                long value = block.next().getAndIncrement();
+                if (value < block.end()) {
+                    return format(today, value);
+                }
+            }
+            refill(block, today);
+        }
+    }
+
+    // count consecutive numbers for a bulk operation, reserved as one range of their own in a
+    // single round-trip; the shared block keeps serving single tickets.
+    public List<String> nextTicketNumbers(int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        LocalDate today = LocalDate.now(clock);
+        long start = reserve(today, count);
+        List<String> numbers = new ArrayList<>(count);
+        for (long value = start; value < start + count; value++) {
+            numbers.add(format(today, value));
+        }
+        return numbers;
+    }
+
+    // Only the thread that finds the block exhausted reserves a new one; the others wait here
+    // briefly and then retry against the fresh block.
+    private void refill(Block exhausted, LocalDate day) {
+        refillLock.lock();
+        try {
+            if (current.get() != exhausted) {
+                return;
+            }
+            long start = reserve(day, blockSize);
+            current.set(new Block(day, new AtomicLong(start), start + blockSize));
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private long reserve(LocalDate day, int size) {
+        try {
+            return reserveAndCommit(day, size);
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the day's counter at the same moment; it exists now
+            return reserveAndCommit(day, size);
+        }
+    }
+
+    // Commits on its own so the row lock is held only for the reservation, not for the rest of
+    // the caller's transaction. The connection is taken straight from the datasource rather than
+    // through Spring's transaction management, so it can never be the caller's connection.
+    private long reserveAndCommit(LocalDate day, int size) {
+        try (Connection connection = reservations.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                long start = reserveOrCreate(new JdbcTemplate(new SingleConnectionDataSource(connection, true)), day, size);
+                connection.commit();
+                return start;
+            } catch (RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Could not reserve ticket numbers", e);
+        }
+    }
+
+    // A single atomic UPDATE: concurrent reservations for the same day queue on the row lock and
+    // each one adds to the value the previous one committed. If the day has no row yet, a plain
+    // INSERT creates it, failing with a key violation if another node just did.
+    private static long reserveOrCreate(JdbcTemplate jdbcTemplate, LocalDate day, int size) {
+        if (jdbcTemplate.update("UPDATE ticket_number_counters SET next_value = next_value + ? WHERE ticket_day = ?",
+                size, day) == 0) {
+            jdbcTemplate.update("INSERT INTO ticket_number_counters (ticket_day, next_value) VALUES (?, ?)", day, 1 + size);
+            return 1;
+        }
+        // Our own update is visible to us and the row stays locked until commit
+        return jdbcTemplate.queryForObject("SELECT next_value FROM ticket_number_counters WHERE ticket_day = ?",
+                Long.class, day) - size;
+    }
+
+    private static String format(LocalDate day, long value) {
+        return String.format("TKT-%s-%06d", day.format(DAY_FORMAT), value);
+    }
+}
@@ -0,0 +1,129 @@
+package com.hostel.hostelmanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hostel.hostelmanagement.model.Role;
+import com.hostel.hostelmanagement.model.User;
+import com.hostel.hostelmanagement.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// Users by id, by email and by role, kept in process so that authentication and the services
+// don't query the users table on every request. Entries expire app.users.cache.ttl-seconds after
+// they were loaded (which also bounds staleness across nodes) and each cache holds at most
+// app.users.cache.max-size entries. Unknown ids and emails are not cached.
+//
+// The caches hold immutable snapshots of the rows, never entities: every lookup returns a fresh,
+// detached User that callers may read, use as a reference or even modify without affecting
+// anyone else. Anything that creates or changes a user calls evict(). Hits and misses are
+// published as cache.gets{cache=users-by-*} and summarized by MonitoringController.
+@Component
+public class UserCache {
+
+    public record CacheSummary(String cache, long size, long hits, long misses, double hitRate, long evictions) {
+    }
+
+    private record Snapshot(UUID id, String fullName, String email, String passwordHash, Role role,
+                            LocalDateTime createdAt) {
+
+        static Snapshot of(User user) {
+            return user == null ? null : new Snapshot(user.getId(), user.getFullName(), user.getEmail(),
+                    user.getPasswordHash(), user.getRole(), user.getCreatedAt());
+        }
+
+        User toUser() {
+            User user = new User();
+            user.setId(id);
+            user.setFullName(fullName);
+            user.setEmail(email);
+            user.setPasswordHash(passwordHash);
+            user.setRole(role);
+            user.setCreatedAt(createdAt);
+            return user;
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, Snapshot> byId;
+    private final Cache<String, Snapshot> byEmail;
+    private final Cache<Role, List<Snapshot>> byRole;
+
+    public UserCache(UserRepository userRepository,
+                     MeterRegistry meterRegistry,
+                     @Value("${app.users.cache.max-size:10000}") long maxSize,
+                     @Value("${app.users.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.byId = build(maxSize, ttlSeconds, meterRegistry, "users-by-id");
+        this.byEmail = build(maxSize, ttlSeconds, meterRegistry, "users-by-email");
+        this.byRole = build(Role.values().length, ttlSeconds, meterRegistry, "users-by-role");
+    }
+
+    public Optional<User> findById(UUID id) {
+        return Optional.ofNullable(byId.get(id, key -> Snapshot.of(userRepository.findById(key).orElse(null))))
+                .map(Snapshot::toUser);
+    }
+
+    public Optional<User> findByEmail(String email) {
+        return Optional.ofNullable(byEmail.get(email, key -> Snapshot.of(userRepository.findByEmail(key).orElse(null))))
+                .map(Snapshot::toUser);
+    }
+
+    // Unmodifiable
+    public List<User> findByRole(Role role) {
+        return byRole.get(role, key -> userRepository.findByRole(key).stream().map(Snapshot::of).toList()).stream()
+                .map(Snapshot::toUser)
+                .toList();
+    }
+
+    // Drops everything cached about user, now and again once the surrounding transaction (if any)
+    // commits, so that a read racing with the commit cannot put the old state back
+    public void evict(User user) {
+        Runnable evict = () -> {
+            if (user.getId() != null) {
+                byId.invalidate(user.getId());
+            }
+            byEmail.invalidate(user.getEmail());
+            byRole.invalidate(user.getRole());
+        };
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
+
+    public List<CacheSummary> summaries() {
+        return List.of(summary("users-by-id", byId), summary("users-by-email", byEmail),
+                summary("users-by-role", byRole));
+    }
+
+    private static <K, V> Cache<K, V> build(long maxSize, long ttlSeconds, MeterRegistry meterRegistry, String name) {
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    private static CacheSummary summary(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new CacheSummary(name, cache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount());
+    }
+}
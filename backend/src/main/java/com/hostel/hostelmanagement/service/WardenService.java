@@ -1,20 +1,34 @@
 package com.hostel.hostelmanagement.service;
 
+import com.hostel.hostelmanagement.dto.BulkAssignmentRequestDto.Assignment;
+import com.hostel.hostelmanagement.dto.BulkAssignmentRequestDto;
+import com.hostel.hostelmanagement.dto.ComplaintCursor;
 import com.hostel.hostelmanagement.dto.ComplaintDto;
+import com.hostel.hostelmanagement.dto.ComplaintQuery;
+import com.hostel.hostelmanagement.dto.DtoMapper;
+import com.hostel.hostelmanagement.dto.CursorPage;
 import com.hostel.hostelmanagement.dto.TicketDto;
 import com.hostel.hostelmanagement.dto.TicketRequestDto;
 import com.hostel.hostelmanagement.dto.UserDto;
 import com.hostel.hostelmanagement.model.*;
 import com.hostel.hostelmanagement.repository.ComplaintRepository;
+import com.hostel.hostelmanagement.repository.ComplaintViewRepository;
 import com.hostel.hostelmanagement.repository.TicketRepository;
 import com.hostel.hostelmanagement.repository.UserRepository;
+import com.hostel.hostelmanagement.security.AuthenticatedUser;
+import com.hostel.hostelmanagement.event.ComplaintStatusChangedEvent;
+import com.hostel.hostelmanagement.event.TicketStatusChangedEvent;
 import lombok.AllArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -23,12 +37,18 @@ import java.util.stream.Collectors;
 public class WardenService {
 
     private final ComplaintRepository complaintRepository;
+    private final ComplaintViewRepository complaintViewRepository;
+    private final ComplaintViewProjector complaintViewProjector;
     private final TicketRepository ticketRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final UserCache userCache;
+    private final OutboxService outboxService;
+    private final TicketNumberAllocator ticketNumberAllocator;
+    private final ResolutionLatencyMetrics resolutionLatencyMetrics;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<UserDto> getAllCleaners() {
-        List<User> cleaners = userRepository.findByRole(Role.CLEANER);
+        List<User> cleaners = userCache.findByRole(Role.CLEANER);
         return cleaners.stream()
                 .map(user -> {
                     UserDto dto = new UserDto();
@@ -42,87 +62,44 @@ public class WardenService {
     }
 
 
-    public List<ComplaintDto> viewAllComplaints() {
-        return complaintRepository.findAll()
-                .stream()
-                .map(this::mapToDTO)
-                .toList();
+    public CursorPage<ComplaintDto> viewAllComplaints(ComplaintQuery query) {
+        int limit = query.effectiveLimit();
+        List<ComplaintView> complaints = complaintViewRepository.findPage(query, limit + 1);
+        return CursorPage.of(complaints, limit,
+                v -> new ComplaintCursor(v.getCreatedAt(), v.getComplaintId()).encode(),
+                DtoMapper::toComplaintDto);
     }
 
 
-    public ComplaintDto mapToDTO(Complaint complaint) {
-        ComplaintDto dto = new ComplaintDto();
-
-        // Already a UUID, just assign it
-        dto.setId(complaint.getId());
-
-        // This must match the type in your User entity
-        dto.setStudentId(complaint.getStudent().getId());
-
-        dto.setStudentName(complaint.getStudent().getFullName());
-        dto.setComplaintType(complaint.getComplaintType());
-        dto.setLocation(complaint.getLocation());
-        dto.setDescription(complaint.getDescription());
-        dto.setStatus(complaint.getStatus());
-        dto.setCreatedAt(complaint.getCreatedAt());
-        dto.setUpdatedAt(complaint.getUpdatedAt());
-        if (complaint.getAssignedTo() != null) {
-            dto.setAssignedToId(complaint.getAssignedTo().getId());
-        }
-
-
-        return dto;
-    }
-
-
-    private TicketDto mapToTicketDTO(Ticket ticket) {
-        TicketDto dto = new TicketDto();
-        dto.setId(ticket.getId());
-        dto.setTicketNumber(ticket.getTicketNumber());
-
-        dto.setComplaintId(ticket.getComplaint().getId());
-        dto.setComplaintDescription(ticket.getComplaint().getDescription());
-
-        dto.setAssignedToId(ticket.getAssignedTo().getId());
-        dto.setAssignedToName(ticket.getAssignedTo().getFullName());
-
-        dto.setWardenId(ticket.getWarden().getId());
-        dto.setWardenName(ticket.getWarden().getFullName());
-
-        dto.setStatus(ticket.getStatus());
-        dto.setResolutionNotes(ticket.getResolutionNotes());
-        dto.setCreatedAt(ticket.getCreatedAt());
-        dto.setResolvedAt(ticket.getResolvedAt());
-
-        return dto;
-    }
-
 
 
 
     @Transactional
     public TicketDto createTicket(TicketRequestDto requestDto) {
         // Get the warden performing this action
-        String wardenEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User warden = userRepository.findByEmail(wardenEmail)
+        User warden = userCache.findById(AuthenticatedUser.current().getId())
                 .orElseThrow(() -> new RuntimeException("Warden not found"));
 
         // Get the complaint and the electrician to be assigned
         Complaint complaint = complaintRepository.findById(requestDto.getComplaintId())
                 .orElseThrow(() -> new RuntimeException("Complaint not found"));
-        User electrician = userRepository.findById(requestDto.getElectricianId())
+        User electrician = userCache.findById(requestDto.getElectricianId())
                 .orElseThrow(() -> new RuntimeException("Electrician not found"));
         if (electrician.getRole() != Role.ELECTRICIAN) {
             throw new IllegalArgumentException("Assigned user must be an electrician.");
         }
 
         // Update complaint status
+        LocalDateTime now = LocalDateTime.now();
+        ComplaintStatus previousStatus = complaint.getStatus();
         complaint.setStatus(ComplaintStatus.IN_PROGRESS);
+        complaint.setAssignedAt(now);
         complaintRepository.save(complaint);
+        eventPublisher.publishEvent(ComplaintStatusChangedEvent.of(complaint, previousStatus));
+        resolutionLatencyMetrics.assigned(complaint, electrician.getId(), now);
 
         // ✅ Generate the ticket number BEFORE saving
-        String ticketNumber = "TKT-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"))
-                + "-" + UUID.randomUUID().toString().substring(0, 8);
+        String ticketNumber = ticketNumberAllocator.nextTicketNumber();
 
         // Create the new ticket with the generated ticket number
         Ticket ticket = new Ticket();
@@ -133,19 +110,21 @@ public class WardenService {
         ticket.setTicketNumber(ticketNumber);  // ✅ Set BEFORE save
 
         Ticket finalTicket = ticketRepository.save(ticket);  // Single save — done!
+        complaintViewProjector.refresh(complaint.getId());
+        eventPublisher.publishEvent(TicketStatusChangedEvent.of(finalTicket, null));
 
         // --- NOTIFICATION LOGIC ---
         // Notify the student
         String studentSubject = "Ticket Generated for Your Complaint: " + finalTicket.getTicketNumber();
         String studentBody = "Dear " + complaint.getStudent().getFullName() + ",\n\nA ticket has been generated for your complaint regarding '" + complaint.getDescription() + "'.\n\nTicket Number: " + finalTicket.getTicketNumber() + "\nAssigned to: " + electrician.getFullName() + "\n\nRegards,\nHostel Management";
-        notificationService.sendNotification(complaint.getStudent().getEmail(), studentSubject, studentBody);
+        outboxService.enqueue(complaint.getStudent().getEmail(), studentSubject, studentBody);
 
         // Notify the electrician
         String electricianSubject = "New Ticket Assigned to You: " + finalTicket.getTicketNumber();
         String electricianBody = "Hello " + electrician.getFullName() + ",\n\nYou have been assigned a new ticket.\n\nTicket Number: " + finalTicket.getTicketNumber() + "\nComplaint: " + complaint.getDescription() + "\nLocation: " + complaint.getLocation() + "\n\nPlease log in to the system to view details.";
-        notificationService.sendNotification(electrician.getEmail(), electricianSubject, electricianBody);
+        outboxService.enqueue(electrician.getEmail(), electricianSubject, electricianBody);
 
-        return mapToTicketDTO(finalTicket);
+        return DtoMapper.toTicketDto(finalTicket);
     }
 
     @Transactional
@@ -157,21 +136,195 @@ public class WardenService {
             throw new IllegalArgumentException("This action is only for cleaning complaints.");
         }
 
-        User cleaner = userRepository.findById(cleanerId)
+        User cleaner = userCache.findById(cleanerId)
                 .orElseThrow(() -> new RuntimeException("Cleaner not found"));
 
+        LocalDateTime now = LocalDateTime.now();
+        ComplaintStatus previousStatus = complaint.getStatus();
         complaint.setStatus(ComplaintStatus.IN_PROGRESS);
         complaint.setAssignedTo(cleaner);  // ✅ assign the cleaner
+        complaint.setAssignedAt(now);
 
         Complaint savedComplaint = complaintRepository.save(complaint);
+        complaintViewProjector.refresh(savedComplaint.getId());
+        eventPublisher.publishEvent(ComplaintStatusChangedEvent.of(savedComplaint, previousStatus));
+        resolutionLatencyMetrics.assigned(savedComplaint, cleaner.getId(), now);
 
         // Notify student
         String subject = "Your Complaint is In Progress";
         String body = "Dear " + savedComplaint.getStudent().getFullName() +
                 ",\n\nYour cleaning complaint regarding '" + savedComplaint.getDescription() +
                 "' has been approved and assigned to our cleaner.\n\nRegards,\nHostel Management";
-        notificationService.sendNotification(savedComplaint.getStudent().getEmail(), subject, body);
+        outboxService.enqueue(savedComplaint.getStudent().getEmail(), subject, body);
 
         return savedComplaint;
     }
-}
\ No newline at end of file
+
+    // Bulk version of approveCleaningComplaint. Complaints and cleaners are read with one query
+    // each, then moved with one UPDATE per cleaner; each student gets a single notification
+    // covering all of their complaints in the request.
+    @Transactional
+    public List<Complaint> approveCleaningComplaints(List<Assignment> assignments) {
+        Map<UUID, Complaint> complaints = loadComplaints(assignments);
+        for (Complaint complaint : complaints.values()) {
+            if (complaint.getComplaintType() != ComplaintType.CLEANER) {
+                throw new IllegalArgumentException("Complaint " + complaint.getId() + " is not a cleaning complaint.");
+            }
+        }
+        Map<UUID, User> cleaners = loadAssignees(assignments, Role.CLEANER);
+
+        LocalDateTime now = LocalDateTime.now();
+        assignments.stream()
+                .collect(Collectors.groupingBy(Assignment::assigneeId,
+                        Collectors.mapping(Assignment::complaintId, Collectors.toList())))
+                .forEach((cleanerId, complaintIds) -> complaintRepository.assignAll(
+                        complaintIds, cleaners.get(cleanerId), ComplaintStatus.IN_PROGRESS, now));
+        complaintViewProjector.refresh(complaints.keySet());
+
+        // The loaded complaints are detached by the update; bring them in line for the caller
+        List<Complaint> assigned = new ArrayList<>(assignments.size());
+        for (Assignment assignment : assignments) {
+            Complaint complaint = complaints.get(assignment.complaintId());
+            ComplaintStatus previousStatus = complaint.getStatus();
+            complaint.setStatus(ComplaintStatus.IN_PROGRESS);
+            complaint.setAssignedTo(cleaners.get(assignment.assigneeId()));
+            complaint.setAssignedAt(now);
+            complaint.setUpdatedAt(now);
+            eventPublisher.publishEvent(ComplaintStatusChangedEvent.of(complaint, previousStatus));
+            resolutionLatencyMetrics.assigned(complaint, assignment.assigneeId(), now);
+            assigned.add(complaint);
+        }
+
+        assigned.stream()
+                .collect(Collectors.groupingBy(c -> c.getStudent().getId(), LinkedHashMap::new, Collectors.toList()))
+                .values()
+                .forEach(ofStudent -> {
+                    User student = ofStudent.get(0).getStudent();
+                    String subject = ofStudent.size() == 1
+                            ? "Your Complaint is In Progress"
+                            : ofStudent.size() + " of Your Complaints are In Progress";
+                    String body = "Dear " + student.getFullName() + ",\n\nThe following cleaning complaints have been approved and assigned to our cleaners:\n"
+                            + ofStudent.stream().map(c -> "- " + c.getDescription() + " (" + c.getLocation() + ")").collect(Collectors.joining("\n"))
+                            + "\n\nRegards,\nHostel Management";
+                    outboxService.enqueue(student.getEmail(), subject, body);
+                });
+
+        return assigned;
+    }
+
+    // Bulk version of createTicket. Tickets are numbered from one reserved range and inserted in
+    // JDBC batches; each student and each electrician gets a single notification.
+    @Transactional
+    public List<TicketDto> createTickets(List<Assignment> assignments) {
+        User warden = userCache.findById(AuthenticatedUser.current().getId())
+                .orElseThrow(() -> new RuntimeException("Warden not found"));
+
+        Map<UUID, Complaint> complaints = loadComplaints(assignments);
+        Map<UUID, User> electricians = loadAssignees(assignments, Role.ELECTRICIAN);
+        List<UUID> ticketed = ticketRepository.findComplaintIdsWithTicket(complaints.keySet());
+        if (!ticketed.isEmpty()) {
+            throw new IllegalArgumentException("Complaints already have a ticket: " + ticketed);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        complaintRepository.markAssignedAll(complaints.keySet(), ComplaintStatus.IN_PROGRESS, now);
+        List<String> ticketNumbers = ticketNumberAllocator.nextTicketNumbers(assignments.size());
+
+        List<Ticket> tickets = new ArrayList<>(assignments.size());
+        for (int i = 0; i < assignments.size(); i++) {
+            Assignment assignment = assignments.get(i);
+            Complaint complaint = complaints.get(assignment.complaintId());
+            ComplaintStatus previousStatus = complaint.getStatus();
+            complaint.setStatus(ComplaintStatus.IN_PROGRESS);
+            complaint.setAssignedAt(now);
+            eventPublisher.publishEvent(ComplaintStatusChangedEvent.of(complaint, previousStatus));
+            resolutionLatencyMetrics.assigned(complaint, assignment.assigneeId(), now);
+
+            Ticket ticket = new Ticket();
+            ticket.setComplaint(complaint);
+            ticket.setWarden(warden);
+            ticket.setAssignedTo(electricians.get(assignment.assigneeId()));
+            ticket.setStatus(TicketStatus.OPEN);
+            ticket.setTicketNumber(ticketNumbers.get(i));
+            tickets.add(ticket);
+        }
+        ticketRepository.saveAll(tickets);
+        // Writes the batched inserts now, so createdAt is set on what we return
+        ticketRepository.flush();
+        complaintViewProjector.refresh(complaints.keySet());
+        tickets.forEach(ticket -> eventPublisher.publishEvent(TicketStatusChangedEvent.of(ticket, null)));
+
+        tickets.stream()
+                .collect(Collectors.groupingBy(t -> t.getComplaint().getStudent().getId(), LinkedHashMap::new, Collectors.toList()))
+                .values()
+                .forEach(ofStudent -> {
+                    User student = ofStudent.get(0).getComplaint().getStudent();
+                    String subject = ofStudent.size() == 1
+                            ? "Ticket Generated for Your Complaint: " + ofStudent.get(0).getTicketNumber()
+                            : "Tickets Generated for " + ofStudent.size() + " of Your Complaints";
+                    String body = "Dear " + student.getFullName() + ",\n\nTickets have been generated for your complaints:\n"
+                            + ofStudent.stream().map(t -> "- " + t.getTicketNumber() + ": '" + t.getComplaint().getDescription()
+                                    + "', assigned to " + t.getAssignedTo().getFullName()).collect(Collectors.joining("\n"))
+                            + "\n\nRegards,\nHostel Management";
+                    outboxService.enqueue(student.getEmail(), subject, body);
+                });
+        tickets.stream()
+                .collect(Collectors.groupingBy(t -> t.getAssignedTo().getId(), LinkedHashMap::new, Collectors.toList()))
+                .values()
+                .forEach(ofElectrician -> {
+                    User electrician = ofElectrician.get(0).getAssignedTo();
+                    String subject = ofElectrician.size() == 1
+                            ? "New Ticket Assigned to You: " + ofElectrician.get(0).getTicketNumber()
+                            : ofElectrician.size() + " New Tickets Assigned to You";
+                    String body = "Hello " + electrician.getFullName() + ",\n\nYou have been assigned new tickets:\n"
+                            + ofElectrician.stream().map(t -> "- " + t.getTicketNumber() + ": " + t.getComplaint().getDescription()
+                                    + " (" + t.getComplaint().getLocation() + ")").collect(Collectors.joining("\n"))
+                            + "\n\nPlease log in to the system to view details.";
+                    outboxService.enqueue(electrician.getEmail(), subject, body);
+                });
+
+        return tickets.stream().map(DtoMapper::toTicketDto).toList();
+    }
+
+    private Map<UUID, Complaint> loadComplaints(List<Assignment> assignments) {
+        if (assignments == null || assignments.isEmpty()) {
+            throw new IllegalArgumentException("No assignments given.");
+        }
+        if (assignments.size() > BulkAssignmentRequestDto.MAX_ASSIGNMENTS) {
+            throw new IllegalArgumentException("At most " + BulkAssignmentRequestDto.MAX_ASSIGNMENTS + " assignments per request.");
+        }
+        Set<UUID> complaintIds = new HashSet<>();
+        for (Assignment assignment : assignments) {
+            if (assignment.complaintId() == null || assignment.assigneeId() == null) {
+                throw new IllegalArgumentException("Every assignment needs a complaintId and an assigneeId.");
+            }
+            if (!complaintIds.add(assignment.complaintId())) {
+                throw new IllegalArgumentException("Complaint " + assignment.complaintId() + " is assigned twice.");
+            }
+        }
+
+        Map<UUID, Complaint> complaints = complaintRepository.findAllWithStudentByIdIn(complaintIds).stream()
+                .collect(Collectors.toMap(Complaint::getId, c -> c));
+        if (complaints.size() != complaintIds.size()) {
+            complaintIds.removeAll(complaints.keySet());
+            throw new RuntimeException("Complaints not found: " + complaintIds);
+        }
+        return complaints;
+    }
+
+    private Map<UUID, User> loadAssignees(List<Assignment> assignments, Role role) {
+        Set<UUID> assigneeIds = assignments.stream().map(Assignment::assigneeId).collect(Collectors.toSet());
+        Map<UUID, User> assignees = userRepository.findAllById(assigneeIds).stream()
+                .collect(Collectors.toMap(User::getId, u -> u));
+        for (UUID assigneeId : assigneeIds) {
+            User assignee = assignees.get(assigneeId);
+            if (assignee == null) {
+                throw new RuntimeException("User not found: " + assigneeId);
+            }
+            if (assignee.getRole() != role) {
+                throw new IllegalArgumentException("Assigned user " + assigneeId + " must be a " + role.name().toLowerCase() + ".");
+            }
+        }
+        return assignees;
+    }
+}
@@ -5,6 +5,7 @@ import com.hostel.hostelmanagement.model.Role;
 import com.hostel.hostelmanagement.model.User;
 import com.hostel.hostelmanagement.repository.UserRepository;
 import com.hostel.hostelmanagement.service.AuthService;
+import com.hostel.hostelmanagement.service.UserCache;
 import lombok.AllArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -15,6 +16,7 @@ public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
 
     @Override
     public User registerStudent(RegisterDto registerDto) {
@@ -26,6 +28,7 @@ public class AuthServiceImpl implements AuthService {
         return createUserInternal(registerDto, registerDto.getRole());
     }
 
+    // The duplicate check goes to the database: the cache may not have seen a user created elsewhere
     private User createUserInternal(RegisterDto registerDto, Role role) {
         if (userRepository.findByEmail(registerDto.getEmail()).isPresent()) {
             throw new RuntimeException("Email address already in use.");
@@ -37,7 +40,9 @@ public class AuthServiceImpl implements AuthService {
         user.setPasswordHash(passwordEncoder.encode(registerDto.getPassword()));
         user.setRole(role);
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userCache.evict(saved);
+        return saved;
     }
 }
 
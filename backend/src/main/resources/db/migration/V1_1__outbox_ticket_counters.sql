@@ -0,0 +1,27 @@
+-- Objects added to the entities while Hibernate still generated the schema. Databases from that
+-- time only have V1's tables, so these are created here rather than in the baseline.
+
+-- Keyset pagination order used by every complaint listing
+CREATE INDEX idx_complaints_created_at_id ON complaints (created_at, id);
+
+-- Transactional outbox for notification emails (OutboxService, OutboxDispatcher)
+CREATE TABLE outbox (
+    id              UUID          NOT NULL PRIMARY KEY,
+    recipient       VARCHAR(255)  NOT NULL,
+    subject         VARCHAR(255)  NOT NULL,
+    body            TEXT          NOT NULL,
+    status          VARCHAR(255)  NOT NULL,
+    attempts        INTEGER       NOT NULL,
+    next_attempt_at TIMESTAMP(6)  NOT NULL,
+    last_error      VARCHAR(1000),
+    created_at      TIMESTAMP(6),
+    sent_at         TIMESTAMP(6)
+);
+
+CREATE INDEX idx_outbox_status_next_attempt ON outbox (status, next_attempt_at);
+
+-- One row per day: the next ticket number to hand out (TicketNumberAllocator)
+CREATE TABLE ticket_number_counters (
+    ticket_day DATE   NOT NULL PRIMARY KEY,
+    next_value BIGINT NOT NULL
+);
@@ -0,0 +1,36 @@
+-- Schema as Hibernate generated it before any of the performance work: users, complaints and
+-- tickets only. Existing databases are baselined at this version (see FlywayConfig) and start
+-- at V1_1, which adds what was introduced before migrations existed.
+
+CREATE TABLE users (
+    id            UUID         NOT NULL PRIMARY KEY,
+    full_name     VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL UNIQUE,
+    password_hash VARCHAR(255) NOT NULL,
+    role          VARCHAR(255) NOT NULL,
+    created_at    TIMESTAMP(6)
+);
+
+CREATE TABLE complaints (
+    id             UUID         NOT NULL PRIMARY KEY,
+    student_id     UUID         NOT NULL REFERENCES users (id),
+    assigned_to_id UUID         REFERENCES users (id),
+    complaint_type VARCHAR(255) NOT NULL,
+    location       VARCHAR(255) NOT NULL,
+    description    VARCHAR(255) NOT NULL,
+    status         VARCHAR(255) NOT NULL,
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6)
+);
+
+CREATE TABLE tickets (
+    id               UUID         NOT NULL PRIMARY KEY,
+    ticket_number    VARCHAR(255) NOT NULL UNIQUE,
+    complaint_id     UUID         NOT NULL UNIQUE REFERENCES complaints (id),
+    assigned_to_id   UUID         NOT NULL REFERENCES users (id),
+    warden_id        UUID         NOT NULL REFERENCES users (id),
+    status           VARCHAR(255) NOT NULL,
+    resolution_notes TEXT,
+    created_at       TIMESTAMP(6),
+    resolved_at      TIMESTAMP(6)
+);
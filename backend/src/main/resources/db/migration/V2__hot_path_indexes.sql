@@ -0,0 +1,27 @@
+-- Composite indexes for the repository queries on the request path. Listings are keyset-paginated
+-- on (created_at DESC, id DESC), so each filter index ends with those columns: the database
+-- seeks to the filter, walks the index in order and stops after one page, with no sort.
+
+-- ComplaintRepository.findByStudentId, student "my complaints" pages
+CREATE INDEX idx_complaints_student_created ON complaints (student_id, created_at, id);
+
+-- findByAssignedToIdAndStatus, findByAssignedToId, cleaner task pages
+CREATE INDEX idx_complaints_assignee_status_created ON complaints (assigned_to_id, status, created_at, id);
+
+-- findByComplaintTypeAndStatus, warden/admin pages filtered by type (and status)
+CREATE INDEX idx_complaints_type_status_created ON complaints (complaint_type, status, created_at, id);
+
+-- countByStatus, countGroupedByStatus, pages filtered by status only
+CREATE INDEX idx_complaints_status_created ON complaints (status, created_at, id);
+
+-- TicketRepository.findByAssignedToIdAndStatusNot (electrician's open tickets)
+CREATE INDEX idx_tickets_assignee_status ON tickets (assigned_to_id, status);
+
+-- TicketRepository.countByStatus, countGroupedByStatus
+CREATE INDEX idx_tickets_status ON tickets (status);
+
+-- TicketRepository.findByComplaintId and the ticket join in complaint history are served by
+-- the UNIQUE constraint on tickets.complaint_id from V1.
+
+-- UserRepository.findByRole (wardens to notify, cleaner lists); findByEmail uses the UNIQUE on email
+CREATE INDEX idx_users_role ON users (role);
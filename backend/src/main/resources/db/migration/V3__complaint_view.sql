@@ -0,0 +1,64 @@
+-- Denormalized read model for the complaint listings: one row per complaint with the student,
+-- assignee and ticket already joined in. Rows are re-derived from the source tables by
+-- ComplaintViewProjector in the same transaction as every write, and the whole table can be
+-- regenerated with POST /api/admin/complaint-view/rebuild. No foreign keys: it is a projection,
+-- not a source of truth.
+CREATE TABLE complaint_view (
+    complaint_id            UUID         NOT NULL PRIMARY KEY,
+    student_id              UUID         NOT NULL,
+    student_name            VARCHAR(255) NOT NULL,
+    assigned_to_id          UUID,
+    assigned_to_name        VARCHAR(255),
+    complaint_type          VARCHAR(255) NOT NULL,
+    location                VARCHAR(255) NOT NULL,
+    description             VARCHAR(255) NOT NULL,
+    status                  VARCHAR(255) NOT NULL,
+    created_at              TIMESTAMP(6),
+    updated_at              TIMESTAMP(6),
+    ticket_id               UUID,
+    ticket_number           VARCHAR(255),
+    ticket_status           VARCHAR(255),
+    ticket_assigned_to_id   UUID,
+    ticket_assigned_to_name VARCHAR(255),
+    ticket_warden_id        UUID,
+    ticket_warden_name      VARCHAR(255),
+    ticket_created_at       TIMESTAMP(6),
+    resolution_notes        TEXT,
+    resolved_at             TIMESTAMP(6)
+);
+
+-- Same keyset layout as the complaints indexes in V2: each filter, then (created_at, id)
+
+-- Unfiltered warden/admin pages and the history export
+CREATE INDEX idx_complaint_view_created ON complaint_view (created_at, complaint_id);
+
+-- Student "my complaints" pages
+CREATE INDEX idx_complaint_view_student_created ON complaint_view (student_id, created_at, complaint_id);
+
+-- Cleaner task pages
+CREATE INDEX idx_complaint_view_assignee_status_created ON complaint_view (assigned_to_id, status, created_at, complaint_id);
+
+-- Pages filtered by type (and status)
+CREATE INDEX idx_complaint_view_type_status_created ON complaint_view (complaint_type, status, created_at, complaint_id);
+
+-- Pages filtered by status only
+CREATE INDEX idx_complaint_view_status_created ON complaint_view (status, created_at, complaint_id);
+
+-- Electrician's open tickets
+CREATE INDEX idx_complaint_view_ticket_assignee_status ON complaint_view (ticket_assigned_to_id, ticket_status);
+
+-- Existing data; the same statement as ComplaintViewRepository.insertAllFromSource()
+INSERT INTO complaint_view (complaint_id, student_id, student_name, assigned_to_id, assigned_to_name,
+                            complaint_type, location, description, status, created_at, updated_at,
+                            ticket_id, ticket_number, ticket_status, ticket_assigned_to_id, ticket_assigned_to_name,
+                            ticket_warden_id, ticket_warden_name, ticket_created_at, resolution_notes, resolved_at)
+SELECT c.id, c.student_id, s.full_name, c.assigned_to_id, a.full_name,
+       c.complaint_type, c.location, c.description, c.status, c.created_at, c.updated_at,
+       t.id, t.ticket_number, t.status, t.assigned_to_id, ta.full_name,
+       t.warden_id, w.full_name, t.created_at, t.resolution_notes, t.resolved_at
+FROM complaints c
+JOIN users s ON s.id = c.student_id
+LEFT JOIN users a ON a.id = c.assigned_to_id
+LEFT JOIN tickets t ON t.complaint_id = c.id
+LEFT JOIN users ta ON ta.id = t.assigned_to_id
+LEFT JOIN users w ON w.id = t.warden_id;
@@ -0,0 +1,18 @@
+-- When a complaint was handed to an employee (a cleaner approved, or an electrician ticket
+-- created), so submit -> assign and assign -> resolve times can be measured. For tickets it is
+-- the same instant as tickets.created_at.
+ALTER TABLE complaints ADD COLUMN assigned_at TIMESTAMP(6);
+
+-- History: ticketed complaints were assigned when their ticket was created, and a cleaning
+-- complaint still in progress was last updated when it was assigned. Completed cleaning
+-- complaints were updated again on completion, so their assignment time is lost.
+UPDATE complaints
+SET assigned_at = (SELECT t.created_at FROM tickets t WHERE t.complaint_id = complaints.id)
+WHERE EXISTS (SELECT 1 FROM tickets t WHERE t.complaint_id = complaints.id);
+
+UPDATE complaints
+SET assigned_at = updated_at
+WHERE assigned_at IS NULL
+  AND complaint_type = 'CLEANER'
+  AND status = 'IN_PROGRESS'
+  AND assigned_to_id IS NOT NULL;
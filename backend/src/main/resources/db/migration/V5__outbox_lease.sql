@@ -0,0 +1,4 @@
+-- Until when a dispatcher holds a message it claimed (null while the message has never been
+-- claimed, or after a failed attempt). Lets the digest query tell a message still inside its
+-- digest window from one another node is sending right now.
+ALTER TABLE outbox ADD COLUMN leased_until TIMESTAMP(6);
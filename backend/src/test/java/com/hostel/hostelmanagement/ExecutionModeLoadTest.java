@@ -0,0 +1,190 @@
+package com.hostel.hostelmanagement;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hostel.hostelmanagement.model.Role;
+import com.hostel.hostelmanagement.model.User;
+import com.hostel.hostelmanagement.repository.UserRepository;
+import com.hostel.hostelmanagement.service.ComplaintViewProjector;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Throughput and p99 latency of an authenticated, database-backed listing
+// (GET /api/admin/complaints/all) over real HTTP, with Tomcat on platform threads vs virtual
+// threads. Both runs use the same Hikari pool size, and the test checks that virtual threads
+// never hold more connections than the pool allows.
+// Against the in-memory H2 default there is no I/O wait for virtual threads to overlap; point it
+// at a real PostgreSQL with -Dload.datasource.url=... (plus .username/.password) to see that.
+// Run with: mvn -Pperf test -Dtest=ExecutionModeLoadTest
+@Tag("perf")
+class ExecutionModeLoadTest {
+
+    private static final int CLIENTS = 400;
+    private static final int REQUESTS_PER_CLIENT = 25;
+    private static final int POOL_SIZE = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private record Result(double perSecond, double p50Millis, double p99Millis, int errors, int maxActiveConnections) {
+    }
+
+    @Test
+    void compareThroughputAndTailLatencyWithinTheSamePool() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%n=== %d clients x %d requests, Hikari pool %d ===%n", CLIENTS, REQUESTS_PER_CLIENT, POOL_SIZE);
+        System.out.printf("%-9s %10s %9s %9s %12s%n", "threads", "req/s", "p50 ms", "p99 ms", "max conns");
+        print("platform", platform);
+        print("virtual", virtual);
+        System.out.println();
+
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+        assertThat(virtual.maxActiveConnections()).isLessThanOrEqualTo(POOL_SIZE);
+        assertThat(platform.maxActiveConnections()).isLessThanOrEqualTo(POOL_SIZE);
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        String url = System.getProperty("load.datasource.url",
+                "jdbc:h2:mem:load-" + mode + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH");
+        // Command-line arguments, so they win over the test application.properties
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + System.getProperty("load.datasource.username", "sa"),
+                "--spring.datasource.password=" + System.getProperty("load.datasource.password", ""),
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN")) {
+            HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+            assertThat(dataSource.getJdbcUrl()).isEqualTo(url);
+            assertThat(dataSource.getMaximumPoolSize()).isEqualTo(POOL_SIZE);
+            seed(context);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+            String token = login(client, port);
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/admin/complaints/all?limit=20"))
+                    .header("Authorization", "Bearer " + token)
+                    .build();
+
+            // Warm up
+            load(client, request, 50, 20);
+
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicInteger maxActive = new AtomicInteger();
+            Thread sampler = Thread.ofPlatform().start(() -> {
+                while (running.get()) {
+                    maxActive.accumulateAndGet(dataSource.getHikariPoolMXBean().getActiveConnections(), Math::max);
+                    Thread.onSpinWait();
+                }
+            });
+
+            long start = System.nanoTime();
+            long[] latencies = load(client, request, CLIENTS, REQUESTS_PER_CLIENT);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            running.set(false);
+            sampler.join();
+
+            int errors = (int) Arrays.stream(latencies).filter(l -> l < 0).count();
+            long[] ok = Arrays.stream(latencies).filter(l -> l >= 0).sorted().toArray();
+            return new Result(latencies.length / seconds, percentile(ok, 0.50), percentile(ok, 0.99), errors, maxActive.get());
+        }
+    }
+
+    // Latency of every request in nanoseconds, or -1 for a failed one
+    private static long[] load(HttpClient client, HttpRequest request, int clients, int requestsPerClient) throws Exception {
+        long[] latencies = new long[clients * requestsPerClient];
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> results = new ArrayList<>();
+            for (int c = 0; c < clients; c++) {
+                int offset = c * requestsPerClient;
+                results.add(callers.submit(() -> {
+                    for (int i = 0; i < requestsPerClient; i++) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            latencies[offset + i] = response.statusCode() == 200 ? System.nanoTime() - start : -1;
+                        } catch (Exception e) {
+                            latencies[offset + i] = -1;
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+        return latencies;
+    }
+
+    private String login(HttpClient client, int port) throws Exception {
+        HttpRequest login = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"admin@college.edu\",\"password\":\"admin123\"}"))
+                .build();
+        String body = client.send(login, HttpResponse.BodyHandlers.ofString()).body();
+        return objectMapper.readTree(body).get("token").asText();
+    }
+
+    private static void seed(ConfigurableApplicationContext context) {
+        User student = new User();
+        student.setFullName("Load Student");
+        student.setEmail("load.student@college.edu");
+        student.setPasswordHash("hash");
+        student.setRole(Role.STUDENT);
+        student = context.getBean(UserRepository.class).save(student);
+
+        LocalDateTime start = LocalDateTime.now().minusDays(30);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            rows.add(new Object[]{
+                    UUID.randomUUID(), student.getId(), "ELECTRICIAN", "Block " + (i % 12) + ", Room " + i,
+                    "Light flickers", "SUBMITTED", Timestamp.valueOf(start.plusMinutes(i))
+            });
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate("""
+                INSERT INTO complaints (id, student_id, complaint_type, location, description, status, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)""", rows);
+        // Seeded behind the application's back, so the listings' read model is regenerated
+        context.getBean(ComplaintViewProjector.class).rebuild();
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+
+    private static void print(String mode, Result result) {
+        System.out.printf("%-9s %,10.0f %9.1f %9.1f %12d%n",
+                mode, result.perSecond(), result.p50Millis(), result.p99Millis(), result.maxActiveConnections());
+    }
+}
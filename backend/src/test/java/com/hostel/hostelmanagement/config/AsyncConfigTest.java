@@ -0,0 +1,95 @@
+package com.hostel.hostelmanagement.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncConfigTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void fullQueueRunsOnCallerAndShutdownDrainsQueuedMail() throws Exception {
+        ThreadPoolTaskExecutor executor = new AsyncConfig().notificationExecutor(registry, 1, 1, 2, 10);
+        // What the container does for the bean
+        executor.afterPropertiesSet();
+        CountDownLatch smtpStalled = new CountDownLatch(1);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        List<String> sentBy = new CopyOnWriteArrayList<>();
+
+        // One mail blocks the only sender thread, two more wait in the queue...
+        executor.execute(() -> {
+            firstStarted.countDown();
+            await(smtpStalled);
+            sentBy.add(Thread.currentThread().getName());
+        });
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> sentBy.add(Thread.currentThread().getName()));
+        executor.execute(() -> sentBy.add(Thread.currentThread().getName()));
+
+        assertThat(gauge("notification.executor.queue.depth")).isEqualTo(2);
+        assertThat(gauge("notification.executor.active")).isEqualTo(1);
+
+        // ...so the fourth is sent by the submitting thread instead of being queued or dropped
+        executor.execute(() -> sentBy.add(Thread.currentThread().getName()));
+        assertThat(sentBy).containsExactly(Thread.currentThread().getName());
+        assertThat(registry.get("notification.executor.caller.runs").counter().count()).isEqualTo(1);
+
+        // Shutdown waits for the stalled and queued mail instead of discarding it
+        smtpStalled.countDown();
+        executor.shutdown();
+        assertThat(sentBy).hasSize(4);
+        assertThat(sentBy.subList(1, 4)).allSatisfy(name -> assertThat(name).startsWith("notify-"));
+    }
+
+    @Test
+    void virtualExecutorCapsConcurrentSends() throws Exception {
+        SimpleAsyncTaskExecutor executor = new AsyncConfig().virtualNotificationExecutor(registry, 2, 10);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(20);
+
+        for (int i = 0; i < 20; i++) {
+            executor.execute(() -> {
+                assertThat(Thread.currentThread().isVirtual()).isTrue();
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(10);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(2);
+        executor.close();
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.hostel.hostelmanagement.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlywayConfigTest {
+
+    // A database whose schema Hibernate generated before the migrations existed: only what
+    // V1__baseline.sql creates, and no Flyway history
+    @Test
+    void aPreMigrationDatabaseIsBaselinedAndGetsEverythingAddedSince() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:flyway-baseline;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline.sql")).execute(dataSource);
+
+        FluentConfiguration configuration = Flyway.configure().dataSource(dataSource);
+        new FlywayConfig().baselineExistingSchema().customize(configuration);
+        configuration.load().migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT table_name FROM information_schema.tables WHERE table_schema = 'public'", String.class))
+                .contains("outbox", "ticket_number_counters", "complaint_view");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT index_name FROM information_schema.indexes WHERE table_name = 'complaints'", String.class))
+                .contains("idx_complaints_created_at_id", "idx_complaints_status_created");
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+}
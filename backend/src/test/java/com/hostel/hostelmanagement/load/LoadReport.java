@@ -0,0 +1,133 @@
+package com.hostel.hostelmanagement.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// Latency samples per endpoint for one load run, turned into throughput and p50/p95/p99 and
+// checked against the budgets in load-budgets.properties. A budget is
+// "<endpoint>.p50-ms", "<endpoint>.p95-ms", "<endpoint>.p99-ms" or "<endpoint>.max-error-rate";
+// -Dload.budget.<key>=<value> overrides a file entry. Endpoints without a budget are only reported.
+class LoadReport {
+
+    private static final String BUDGETS = "/load-budgets.properties";
+
+    private final Map<String, Samples> endpoints = new ConcurrentSkipListMap<>();
+    private long startNanos;
+    private long endNanos;
+
+    private static final class Samples {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        synchronized void add(long nanos, boolean ok) {
+            if (!ok) {
+                errors++;
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized int errors() {
+            return errors;
+        }
+    }
+
+    record EndpointStats(String endpoint, int requests, int errors, double perSecond,
+                         double p50Millis, double p95Millis, double p99Millis) {
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+
+    void start() {
+        startNanos = System.nanoTime();
+    }
+
+    void stop() {
+        endNanos = System.nanoTime();
+    }
+
+    void record(String endpoint, long nanos, boolean ok) {
+        endpoints.computeIfAbsent(endpoint, e -> new Samples()).add(nanos, ok);
+    }
+
+    List<EndpointStats> stats() {
+        double seconds = (endNanos - startNanos) / 1e9;
+        List<EndpointStats> stats = new ArrayList<>();
+        endpoints.forEach((endpoint, samples) -> {
+            long[] sorted = samples.sorted();
+            int requests = sorted.length + samples.errors();
+            stats.add(new EndpointStats(endpoint, requests, samples.errors(), requests / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99)));
+        });
+        return stats;
+    }
+
+    // One line per budget that the run went over; empty when every budget holds
+    List<String> violations() {
+        Properties budgets = budgets();
+        List<String> violations = new ArrayList<>();
+        for (EndpointStats stats : stats()) {
+            check(violations, budgets, stats.endpoint(), "p50-ms", stats.p50Millis());
+            check(violations, budgets, stats.endpoint(), "p95-ms", stats.p95Millis());
+            check(violations, budgets, stats.endpoint(), "p99-ms", stats.p99Millis());
+            check(violations, budgets, stats.endpoint(), "max-error-rate", stats.errorRate());
+        }
+        return violations;
+    }
+
+    void print(String title) {
+        System.out.printf("%n=== %s ===%n", title);
+        System.out.printf("%-22s %9s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms");
+        for (EndpointStats s : stats()) {
+            System.out.printf("%-22s %,9d %7d %,9.1f %9.1f %9.1f %9.1f%n",
+                    s.endpoint(), s.requests(), s.errors(), s.perSecond(), s.p50Millis(), s.p95Millis(), s.p99Millis());
+        }
+        System.out.println();
+    }
+
+    private static void check(List<String> violations, Properties budgets, String endpoint, String metric, double actual) {
+        String key = endpoint + "." + metric;
+        String budget = System.getProperty("load.budget." + key, budgets.getProperty(key));
+        if (budget != null && actual > Double.parseDouble(budget)) {
+            violations.add(String.format("%s = %.3f exceeds budget %s", key, actual, budget));
+        }
+    }
+
+    private static Properties budgets() {
+        Properties budgets = new Properties();
+        try (InputStream in = LoadReport.class.getResourceAsStream(BUDGETS)) {
+            if (in != null) {
+                budgets.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return budgets;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+}
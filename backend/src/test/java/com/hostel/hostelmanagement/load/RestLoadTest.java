@@ -0,0 +1,271 @@
+package com.hostel.hostelmanagement.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hostel.hostelmanagement.BackendApplication;
+import com.hostel.hostelmanagement.model.Role;
+import com.hostel.hostelmanagement.model.User;
+import com.hostel.hostelmanagement.repository.UserRepository;
+import com.hostel.hostelmanagement.service.ComplaintViewProjector;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// End-to-end load over real HTTP against the whole application on an in-memory H2 in
+// PostgreSQL mode (or a real database with -Dload.datasource.url=..., plus .username/.password).
+// Students file complaints and list their own, wardens list submitted electrical complaints and
+// raise tickets for them, and electricians list and resolve their tickets, all at the same time.
+// Prints throughput and p50/p95/p99 per endpoint and fails when a budget in
+// load-budgets.properties is exceeded.
+// Run with: mvn -Pperf test -Dtest=RestLoadTest
+// Scale with -Dload.students= -Dload.wardens= -Dload.electricians= -Dload.iterations= -Dload.think-time-ms=
+@Tag("perf")
+class RestLoadTest {
+
+    private static final int STUDENTS = Integer.getInteger("load.students", 40);
+    private static final int WARDENS = Integer.getInteger("load.wardens", 4);
+    private static final int ELECTRICIANS = Integer.getInteger("load.electricians", 8);
+    private static final int ITERATIONS = Integer.getInteger("load.iterations", 25);
+    private static final int THINK_TIME_MS = Integer.getInteger("load.think-time-ms", 0);
+    private static final int SEEDED_COMPLAINTS = Integer.getInteger("load.seed-complaints", 5_000);
+    private static final String PASSWORD = "load-password";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+    private String baseUrl;
+
+    private record Users(List<String> students, List<String> wardens, List<String> electricians, List<UUID> electricianIds) {
+    }
+
+    @Test
+    void roleMixStaysWithinBudgets() throws Exception {
+        String url = System.getProperty("load.datasource.url",
+                "jdbc:h2:mem:rest-load;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH");
+        // Command-line arguments, so they win over the test application.properties
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + System.getProperty("load.datasource.username", "sa"),
+                "--spring.datasource.password=" + System.getProperty("load.datasource.password", ""),
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN")) {
+            assertThat(context.getBean(HikariDataSource.class).getJdbcUrl()).isEqualTo(url);
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            Users users = seed(context);
+
+            // Logins are sequential and BCrypt-bound, so they get a report of their own
+            LoadReport logins = new LoadReport();
+            logins.start();
+            Map<String, String> tokens = login(logins, users);
+            logins.stop();
+
+            // Warm up (JIT, connection pool, caches) without recording
+            run(new LoadReport(), users, tokens, 3);
+
+            LoadReport report = new LoadReport();
+            report.start();
+            run(report, users, tokens, ITERATIONS);
+            report.stop();
+
+            logins.print("Sequential logins");
+            report.print(String.format("%d students, %d wardens, %d electricians x %d iterations",
+                    STUDENTS, WARDENS, ELECTRICIANS, ITERATIONS));
+            assertThat(report.stats()).isNotEmpty();
+            List<String> violations = new ArrayList<>(logins.violations());
+            violations.addAll(report.violations());
+            assertThat(violations).as("load budgets exceeded").isEmpty();
+        }
+    }
+
+    private void run(LoadReport report, Users users, Map<String, String> tokens, int iterations) throws Exception {
+        Set<String> claimed = ConcurrentHashMap.newKeySet();
+        List<Callable<Void>> sessions = new ArrayList<>();
+        users.students().forEach(email -> sessions.add(() -> student(report, tokens.get(email), iterations)));
+        users.wardens().forEach(email -> sessions.add(() -> warden(report, tokens.get(email), users.electricianIds(), claimed, iterations)));
+        users.electricians().forEach(email -> sessions.add(() -> electrician(report, tokens.get(email), iterations)));
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Future<Void> session : callers.invokeAll(sessions)) {
+                session.get();
+            }
+        }
+    }
+
+    private Void student(LoadReport report, String token, int iterations) throws Exception {
+        String[] types = {"ELECTRICIAN", "ELECTRICIAN", "CLEANER", "WARDEN"};
+        for (int i = 0; i < iterations; i++) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String complaint = objectMapper.writeValueAsString(Map.of(
+                    "complaintType", types[random.nextInt(types.length)],
+                    "location", "Block " + random.nextInt(12) + ", Room " + random.nextInt(100, 400),
+                    "description", "Load test complaint " + i));
+            call(report, "file-complaint", request(token, "/api/complaints")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(complaint)));
+            think();
+            call(report, "my-complaints", request(token, "/api/complaints/my-complaints?limit=20").GET());
+            think();
+        }
+        return null;
+    }
+
+    // Two wardens never raise a ticket for the same complaint, as they would coordinate in the UI
+    private Void warden(LoadReport report, String token, List<UUID> electricianIds, Set<String> claimed,
+                        int iterations) throws Exception {
+        for (int i = 0; i < iterations; i++) {
+            JsonNode page = call(report, "warden-complaints",
+                    request(token, "/api/warden/complaints?status=SUBMITTED&complaintType=ELECTRICIAN&limit=20").GET());
+            think();
+            if (page == null) {
+                continue;
+            }
+            for (JsonNode complaint : page.get("items")) {
+                String complaintId = complaint.get("id").asText();
+                if (claimed.add(complaintId)) {
+                    UUID electricianId = electricianIds.get(ThreadLocalRandom.current().nextInt(electricianIds.size()));
+                    String ticket = objectMapper.writeValueAsString(Map.of(
+                            "complaintId", complaintId, "electricianId", electricianId.toString()));
+                    call(report, "create-ticket", request(token, "/api/warden/tickets")
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(ticket)));
+                    think();
+                    break;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Void electrician(LoadReport report, String token, int iterations) throws Exception {
+        String resolution = objectMapper.writeValueAsString(Map.of("resolutionNotes", "Replaced the fitting"));
+        for (int i = 0; i < iterations; i++) {
+            JsonNode tickets = call(report, "electrician-tickets", request(token, "/api/electrician/tickets").GET());
+            think();
+            if (tickets == null || tickets.isEmpty()) {
+                continue;
+            }
+            String ticketId = tickets.get(0).get("id").asText();
+            call(report, "resolve-ticket", request(token, "/api/electrician/tickets/" + ticketId + "/resolve")
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(resolution)));
+            think();
+        }
+        return null;
+    }
+
+    // The parsed response body, or null when the call failed
+    private JsonNode call(LoadReport report, String endpoint, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            boolean ok = response.statusCode() / 100 == 2;
+            report.record(endpoint, System.nanoTime() - start, ok);
+            return ok ? objectMapper.readTree(response.body()) : null;
+        } catch (Exception e) {
+            report.record(endpoint, System.nanoTime() - start, false);
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder request(String token, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Authorization", "Bearer " + token);
+    }
+
+    private Map<String, String> login(LoadReport report, Users users) {
+        List<String> emails = new ArrayList<>(users.students());
+        emails.addAll(users.wardens());
+        emails.addAll(users.electricians());
+
+        Map<String, String> tokens = new ConcurrentHashMap<>();
+        for (String email : emails) {
+            String credentials = "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}";
+            JsonNode body = call(report, "login", HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(credentials)));
+            assertThat(body).as("login of %s", email).isNotNull();
+            tokens.put(email, body.get("token").asText());
+        }
+        return tokens;
+    }
+
+    private static void think() throws InterruptedException {
+        if (THINK_TIME_MS > 0) {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(THINK_TIME_MS / 2, THINK_TIME_MS + 1));
+        }
+    }
+
+    private static Users seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        // One BCrypt hash for everybody; hashing per user would dominate the setup
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        List<User> students = createUsers(userRepository, Role.STUDENT, STUDENTS, passwordHash);
+        List<User> wardens = createUsers(userRepository, Role.WARDEN, WARDENS, passwordHash);
+        List<User> electricians = createUsers(userRepository, Role.ELECTRICIAN, ELECTRICIANS, passwordHash);
+
+        // A backlog of earlier complaints, so listings read from a table of realistic size
+        Random random = new Random(42);
+        String[] types = {"ELECTRICIAN", "CLEANER", "WARDEN"};
+        String[] statuses = {"COMPLETED", "COMPLETED", "IN_PROGRESS", "SUBMITTED"};
+        LocalDateTime start = LocalDateTime.now().minusDays(60);
+        List<Object[]> rows = new ArrayList<>(SEEDED_COMPLAINTS);
+        for (int i = 0; i < SEEDED_COMPLAINTS; i++) {
+            rows.add(new Object[]{
+                    UUID.randomUUID(), students.get(random.nextInt(students.size())).getId(),
+                    types[random.nextInt(types.length)], "Block " + (i % 12) + ", Room " + i, "Seeded complaint",
+                    statuses[random.nextInt(statuses.length)], Timestamp.valueOf(start.plusMinutes(i))
+            });
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate("""
+                INSERT INTO complaints (id, student_id, complaint_type, location, description, status, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)""", rows);
+        // Seeded behind the application's back, so the listings' read model is regenerated
+        context.getBean(ComplaintViewProjector.class).rebuild();
+
+        return new Users(emails(students), emails(wardens), emails(electricians),
+                electricians.stream().map(User::getId).toList());
+    }
+
+    private static List<User> createUsers(UserRepository userRepository, Role role, int count, String passwordHash) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setFullName("Load " + role.name().toLowerCase() + " " + i);
+            user.setEmail("load." + role.name().toLowerCase() + i + "@college.edu");
+            user.setPasswordHash(passwordHash);
+            user.setRole(role);
+            users.add(user);
+        }
+        return userRepository.saveAll(users);
+    }
+
+    private static List<String> emails(List<User> users) {
+        return users.stream().map(User::getEmail).toList();
+    }
+}
@@ -0,0 +1,196 @@
+package com.hostel.hostelmanagement.repository;
+
+import com.hostel.hostelmanagement.dto.ComplaintCursor;
+import com.hostel.hostelmanagement.dto.ComplaintQuery;
+import com.hostel.hostelmanagement.dto.ComplaintResponseDto;
+import com.hostel.hostelmanagement.dto.CursorPage;
+import com.hostel.hostelmanagement.dto.DtoMapper;
+import com.hostel.hostelmanagement.model.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ComplaintViewRepositoryTest {
+
+    @Autowired
+    private ComplaintViewRepository complaintViewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Ticket ticket;
+    private User electrician;
+    private User cleaner;
+
+    @BeforeEach
+    void setUp() {
+        User student = user("Student", "student@college.edu", Role.STUDENT);
+        User warden = user("Warden", "warden@college.edu", Role.WARDEN);
+        electrician = user("Electrician", "electrician@college.edu", Role.ELECTRICIAN);
+        cleaner = user("Cleaner", "cleaner@college.edu", Role.CLEANER);
+
+        for (int i = 0; i < 50; i++) {
+            if (i % 2 == 0) {
+                Complaint complaint = complaint(student, ComplaintType.ELECTRICIAN, null, ComplaintStatus.SUBMITTED);
+                if (i % 4 == 0) {
+                    ticket = new Ticket();
+                    ticket.setComplaint(complaint);
+                    ticket.setWarden(warden);
+                    ticket.setAssignedTo(electrician);
+                    ticket.setStatus(TicketStatus.RESOLVED);
+                    ticket.setTicketNumber("TKT-TEST-" + i);
+                    ticket.setResolutionNotes("Fixed");
+                    entityManager.persist(ticket);
+                }
+            } else {
+                complaint(student, ComplaintType.CLEANER, cleaner, ComplaintStatus.IN_PROGRESS);
+            }
+        }
+        complaintViewRepository.insertAllFromSource();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void historyPageIsASingleQueryOnTheView() {
+        List<ComplaintResponseDto> history = complaintViewRepository.findPage(new ComplaintQuery(), 100).stream()
+                .map(DtoMapper::toComplaintResponseDto)
+                .toList();
+
+        assertThat(history).hasSize(50);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        // Only view rows: no users, tickets or complaints loaded behind it
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(50);
+
+        assertThat(history).filteredOn(dto -> dto.getTicketId() != null)
+                .hasSize(13)
+                .allSatisfy(dto -> {
+                    assertThat(dto.getTicketAssignedTo()).isEqualTo("Electrician");
+                    assertThat(dto.getResolutionNotes()).isEqualTo("Fixed");
+                });
+        assertThat(history).filteredOn(dto -> "CLEANER".equals(dto.getComplaintType()))
+                .allSatisfy(dto -> assertThat(dto.getAssignedToName()).isEqualTo("Cleaner"));
+        assertThat(history).allSatisfy(dto -> assertThat(dto.getStudentName()).isEqualTo("Student"));
+    }
+
+    @Test
+    void findPageWalksEveryComplaintOnceInKeysetOrder() {
+        ComplaintQuery query = new ComplaintQuery();
+        query.setComplaintType(ComplaintType.CLEANER);
+        query.setStatus(ComplaintStatus.IN_PROGRESS);
+
+        List<ComplaintView> seen = new ArrayList<>();
+        int pages = 0;
+        do {
+            List<ComplaintView> rows = complaintViewRepository.findPage(query, 7 + 1);
+            CursorPage<ComplaintView> page = CursorPage.of(rows, 7,
+                    v -> new ComplaintCursor(v.getCreatedAt(), v.getComplaintId()).encode(), v -> v);
+            seen.addAll(page.items());
+            query.setCursor(page.nextCursor());
+            pages++;
+        } while (query.getCursor() != null);
+
+        // One query per page; student and assignee names are columns of the row
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(pages);
+        assertThat(pages).isEqualTo(4);
+        assertThat(seen).hasSize(25)
+                .extracting(ComplaintView::getComplaintId).doesNotHaveDuplicates();
+        assertThat(seen).allSatisfy(v -> {
+            assertThat(v.getComplaintType()).isEqualTo(ComplaintType.CLEANER);
+            assertThat(v.getAssignedToName()).isEqualTo("Cleaner");
+        });
+        assertThat(seen).isSortedAccordingTo(Comparator.comparing(ComplaintView::getCreatedAt)
+                .thenComparing(ComplaintView::getComplaintId).reversed());
+    }
+
+    @Test
+    void assignedToMatchesTheComplaintOrItsTicket() {
+        ComplaintQuery query = new ComplaintQuery();
+
+        query.setAssignedTo(electrician.getId());
+        assertThat(complaintViewRepository.findPage(query, 100)).hasSize(13)
+                .allSatisfy(v -> assertThat(v.getTicketAssignedToId()).isEqualTo(electrician.getId()));
+
+        query.setAssignedTo(cleaner.getId());
+        assertThat(complaintViewRepository.findPage(query, 100)).hasSize(25)
+                .allSatisfy(v -> assertThat(v.getAssignedToId()).isEqualTo(cleaner.getId()));
+    }
+
+    @Test
+    void aMangledCursorIsABadRequest() {
+        ComplaintQuery query = new ComplaintQuery();
+        query.setCursor("not-a-cursor");
+
+        assertThatThrownBy(() -> complaintViewRepository.findPage(query, 10))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void refreshedRowsFollowTheSourceTables() {
+        UUID complaintId = ticket.getComplaint().getId();
+        Ticket resolved = entityManager.find(Ticket.class, ticket.getId());
+        resolved.setStatus(TicketStatus.IN_PROGRESS);
+        resolved.setResolutionNotes("Waiting for a spare part");
+        resolved.getComplaint().setStatus(ComplaintStatus.IN_PROGRESS);
+
+        // The pending changes are flushed before the row is rebuilt from them
+        complaintViewRepository.deleteByComplaintIdIn(List.of(complaintId));
+        complaintViewRepository.insertFromSource(List.of(complaintId));
+        entityManager.clear();
+
+        ComplaintView view = complaintViewRepository.findById(complaintId).orElseThrow();
+        assertThat(view.getStatus()).isEqualTo(ComplaintStatus.IN_PROGRESS);
+        assertThat(view.getTicketStatus()).isEqualTo(TicketStatus.IN_PROGRESS);
+        assertThat(view.getResolutionNotes()).isEqualTo("Waiting for a spare part");
+        assertThat(view.getTicketNumber()).isEqualTo(ticket.getTicketNumber());
+        assertThat(view.getTicketWardenName()).isEqualTo("Warden");
+        assertThat(complaintViewRepository.count()).isEqualTo(50);
+    }
+
+    private User user(String name, String email, Role role) {
+        User user = new User();
+        user.setFullName(name);
+        user.setEmail(email);
+        user.setPasswordHash("hash");
+        user.setRole(role);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Complaint complaint(User student, ComplaintType type, User assignedTo, ComplaintStatus status) {
+        Complaint complaint = new Complaint();
+        complaint.setStudent(student);
+        complaint.setAssignedTo(assignedTo);
+        complaint.setComplaintType(type);
+        complaint.setLocation("Block A, Room 101");
+        complaint.setDescription("Something is broken");
+        complaint.setStatus(status);
+        entityManager.persist(complaint);
+        return complaint;
+    }
+}
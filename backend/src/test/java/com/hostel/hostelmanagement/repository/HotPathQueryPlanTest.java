@@ -0,0 +1,226 @@
+package com.hostel.hostelmanagement.repository;
+
+import com.hostel.hostelmanagement.dto.ComplaintCursor;
+import com.hostel.hostelmanagement.dto.ComplaintQuery;
+import com.hostel.hostelmanagement.model.*;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs EXPLAIN on the SQL Hibernate actually issues for each hot repository call, against a
+// seeded and ANALYZEd database, and fails if any table is read with a full scan.
+// The schema is the one the Flyway migrations build.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.hostel.hostelmanagement.repository.HotPathQueryPlanTest$SqlRecorder")
+class HotPathQueryPlanTest {
+
+    private static final int STUDENTS = 2_000;
+    private static final int CLEANERS = 100;
+    private static final int ELECTRICIANS = 80;
+    private static final int COMPLAINTS = 40_000;
+
+    private static boolean seeded;
+    private static UUID studentId;
+    private static UUID cleanerId;
+    private static UUID electricianId;
+    private static UUID ticketedComplaintId;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ComplaintViewRepository complaintViewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    public static class SqlRecorder implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void seedOnce() {
+        if (!seeded) {
+            seed();
+            jdbcTemplate.execute("ANALYZE");
+            seeded = true;
+        }
+    }
+
+    @Test
+    void everyHotQueryUsesAnIndex() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("findByStudentId", () -> complaintRepository.findByStudentId(studentId));
+        queries.put("findByComplaintTypeAndStatus",
+                () -> complaintRepository.findByComplaintTypeAndStatus(ComplaintType.CLEANER, ComplaintStatus.IN_PROGRESS));
+        queries.put("findByAssignedToIdAndStatus",
+                () -> complaintRepository.findByAssignedToIdAndStatus(cleanerId, ComplaintStatus.IN_PROGRESS));
+        queries.put("findByAssignedToId", () -> complaintRepository.findByAssignedToId(cleanerId));
+        queries.put("complaint countByStatus", () -> complaintRepository.countByStatus(ComplaintStatus.SUBMITTED));
+        queries.put("complaint countGroupedByStatus", () -> complaintRepository.countGroupedByStatus());
+        queries.put("view findPage (student)", () -> complaintViewRepository.findPage(query(q -> q.setStudentId(studentId)), 51));
+        queries.put("view findPage (status)", () -> complaintViewRepository.findPage(query(q -> q.setStatus(ComplaintStatus.SUBMITTED)), 51));
+        queries.put("view findPage (type)", () -> complaintViewRepository.findPage(query(q -> q.setComplaintType(ComplaintType.WARDEN)), 51));
+        queries.put("view findPage (cleaner tasks)", () -> complaintViewRepository.findPage(query(q -> {
+            q.setAssignedTo(cleanerId);
+            q.setStatus(ComplaintStatus.IN_PROGRESS);
+        }), 51));
+        queries.put("view findPage (history)", () -> complaintViewRepository.findPage(new ComplaintQuery(), 51));
+        queries.put("view findPage (next page)", () -> complaintViewRepository.findPage(query(q -> q.setCursor(
+                new ComplaintCursor(LocalDateTime.now().minusDays(10), UUID.randomUUID()).encode())), 51));
+        queries.put("view electrician tickets", () -> complaintViewRepository.findByTicketAssignedToIdAndTicketStatusNot(
+                electricianId, TicketStatus.RESOLVED));
+        queries.put("findByAssignedToIdAndStatusNot",
+                () -> ticketRepository.findByAssignedToIdAndStatusNot(electricianId, TicketStatus.RESOLVED));
+        queries.put("ticket countByStatus", () -> ticketRepository.countByStatus(TicketStatus.OPEN));
+        queries.put("ticket countGroupedByStatus", () -> ticketRepository.countGroupedByStatus());
+        queries.put("findByComplaintId", () -> ticketRepository.findByComplaintId(ticketedComplaintId));
+        queries.put("findByRole", () -> userRepository.findByRole(Role.WARDEN));
+        queries.put("findByEmail", () -> userRepository.findByEmail("student42@college.edu"));
+        queries.put("outbox lockDue", () -> transactionTemplate.executeWithoutResult(
+                tx -> outboxRepository.lockDue(LocalDateTime.now(), Limit.of(50))));
+
+        Map<String, String> scans = new LinkedHashMap<>();
+        queries.forEach((name, query) -> {
+            for (String sql : recordedBy(query)) {
+                String plan = explain(sql);
+                if (plan.contains("tableScan")) {
+                    scans.put(name, plan);
+                }
+            }
+        });
+
+        assertThat(scans).as("queries that fall back to a full table scan").isEmpty();
+    }
+
+    private static List<String> recordedBy(Runnable query) {
+        SqlRecorder.STATEMENTS.clear();
+        query.run();
+        List<String> statements = new ArrayList<>(SqlRecorder.STATEMENTS);
+        assertThat(statements).isNotEmpty();
+        return statements;
+    }
+
+    // The plan does not depend on the values, so every parameter is bound to NULL
+    private String explain(String sql) {
+        return jdbcTemplate.execute("EXPLAIN " + sql, (java.sql.PreparedStatement statement) -> {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setNull(i, java.sql.Types.NULL);
+            }
+            try (var result = statement.executeQuery()) {
+                result.next();
+                return result.getString(1);
+            }
+        });
+    }
+
+    private static ComplaintQuery query(java.util.function.Consumer<ComplaintQuery> filters) {
+        ComplaintQuery query = new ComplaintQuery();
+        filters.accept(query);
+        return query;
+    }
+
+    private void seed() {
+        Random random = new Random(42);
+        List<UUID> students = insertUsers(Role.STUDENT, STUDENTS);
+        List<UUID> cleaners = insertUsers(Role.CLEANER, CLEANERS);
+        List<UUID> electricians = insertUsers(Role.ELECTRICIAN, ELECTRICIANS);
+        List<UUID> wardens = insertUsers(Role.WARDEN, 10);
+        studentId = students.get(42);
+        cleanerId = cleaners.get(7);
+        electricianId = electricians.get(3);
+
+        ComplaintType[] types = ComplaintType.values();
+        ComplaintStatus[] statuses = ComplaintStatus.values();
+        LocalDateTime start = LocalDateTime.now().minusYears(1);
+        List<Object[]> complaints = new ArrayList<>(COMPLAINTS);
+        List<Object[]> tickets = new ArrayList<>();
+        for (int i = 0; i < COMPLAINTS; i++) {
+            UUID id = UUID.randomUUID();
+            ComplaintType type = types[random.nextInt(types.length)];
+            ComplaintStatus status = statuses[random.nextInt(statuses.length)];
+            UUID assignee = type == ComplaintType.CLEANER && status != ComplaintStatus.SUBMITTED
+                    ? cleaners.get(random.nextInt(cleaners.size())) : null;
+            complaints.add(new Object[]{id, students.get(random.nextInt(students.size())), assignee, type.name(),
+                    "Block " + (i % 12), "Seeded complaint", status.name(), Timestamp.valueOf(start.plusMinutes(i))});
+
+            if (type == ComplaintType.ELECTRICIAN && status != ComplaintStatus.SUBMITTED) {
+                TicketStatus ticketStatus = TicketStatus.values()[random.nextInt(TicketStatus.values().length)];
+                tickets.add(new Object[]{UUID.randomUUID(), "TKT-SEED-" + i, id,
+                        electricians.get(random.nextInt(electricians.size())), wardens.get(random.nextInt(wardens.size())),
+                        ticketStatus.name(), Timestamp.valueOf(start.plusMinutes(i))});
+                ticketedComplaintId = id;
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO complaints (id, student_id, assigned_to_id, complaint_type, location, description, status, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)""", complaints);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tickets (id, ticket_number, complaint_id, assigned_to_id, warden_id, status, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)""", tickets);
+        transactionTemplate.executeWithoutResult(tx -> complaintViewRepository.insertAllFromSource());
+
+        List<Object[]> outbox = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            outbox.add(new Object[]{UUID.randomUUID(), "student" + i + "@college.edu", "Subject", "Body",
+                    i % 100 == 0 ? OutboxStatus.PENDING.name() : OutboxStatus.SENT.name(), 1,
+                    Timestamp.valueOf(start.plusMinutes(i))});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO outbox (id, recipient, subject, body, status, attempts, next_attempt_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)""", outbox);
+    }
+
+    private List<UUID> insertUsers(Role role, int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            rows.add(new Object[]{id, role + " " + i, role.name().toLowerCase() + i + "@college.edu", "hash", role.name()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, full_name, email, password_hash, role) VALUES (?, ?, ?, ?, ?)", rows);
+        return ids;
+    }
+}
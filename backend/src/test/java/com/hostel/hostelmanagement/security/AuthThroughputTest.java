@@ -0,0 +1,89 @@
+package com.hostel.hostelmanagement.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Throughput of an authenticated request in HTTP Basic mode vs bearer token mode.
+// The endpoint (/api/dashboard/stats) is served from memory, so the difference is the cost
+// of authentication itself: a user SELECT + BCrypt per request vs one HMAC.
+// Run with: mvn -Pperf test -Dtest=AuthThroughputTest
+@Tag("perf")
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthThroughputTest {
+
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void tokenModeOutperformsBasicMode() throws Exception {
+        String basicHeader = TokenAuthenticationTest.basic("admin@college.edu", "admin123");
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"admin@college.edu\",\"password\":\"admin123\"}"))
+                .andReturn().getResponse().getContentAsString();
+        String bearerHeader = "Bearer " + objectMapper.readTree(body).get("token").asText();
+
+        // Warm up both paths (JIT, connection pool, Mac instances)
+        run(basicHeader, 20);
+        run(bearerHeader, 2_000);
+
+        double basicPerSecond = run(basicHeader, 40 * THREADS);
+        double tokenPerSecond = run(bearerHeader, 5_000 * THREADS);
+
+        System.out.printf("%n=== Authenticated GET /api/dashboard/stats, %d threads ===%n", THREADS);
+        System.out.printf("HTTP Basic : %,10.0f req/s%n", basicPerSecond);
+        System.out.printf("Bearer     : %,10.0f req/s  (%.0fx)%n%n", tokenPerSecond, tokenPerSecond / basicPerSecond);
+
+        assertThat(tokenPerSecond).isGreaterThan(basicPerSecond * 10);
+    }
+
+    private double run(String authorization, int requests) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            int perThread = requests / THREADS;
+            List<Callable<Void>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        mockMvc.perform(get("/api/dashboard/stats").header(HttpHeaders.AUTHORIZATION, authorization))
+                                .andExpect(status().isOk());
+                    }
+                    return null;
+                });
+            }
+            long start = System.nanoTime();
+            for (Future<Void> result : pool.invokeAll(workers)) {
+                result.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            return perThread * THREADS / seconds;
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.hostel.hostelmanagement.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hostel.hostelmanagement.model.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Uses the admin account created by DataInitializer
+@SpringBootTest
+@AutoConfigureMockMvc
+class TokenAuthenticationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void loginIssuesATokenThatAuthenticatesLaterRequests() throws Exception {
+        String token = login("admin@college.edu", "admin123");
+
+        mockMvc.perform(get("/api/dashboard/stats").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("admin@college.edu"))
+                .andExpect(jsonPath("$.fullName").value("Admin User"))
+                .andExpect(jsonPath("$.role").value("ADMIN"));
+    }
+
+    @Test
+    void theTokenCarriesThePrincipal() throws Exception {
+        UUID cleanerId = UUID.randomUUID();
+        String token = tokenService.issue(cleanerId, "cleaner@college.edu", "Line\nBreak", Role.CLEANER,
+                Instant.now().plusSeconds(60));
+
+        assertThat(tokenService.verify(token)).hasValueSatisfying(claims -> {
+            assertThat(claims.userId()).isEqualTo(cleanerId);
+            assertThat(claims.fullName()).isEqualTo("Line\nBreak");
+            assertThat(claims.role()).isEqualTo(Role.CLEANER);
+        });
+        // Neither needs the user in the database: both are answered from the principal
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(cleanerId.toString()))
+                .andExpect(jsonPath("$.fullName").value("Line\nBreak"));
+        mockMvc.perform(get("/api/cleaner/tasks").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+    }
+
+    @Test
+    void loginRejectsBadCredentials() throws Exception {
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"admin@college.edu\",\"password\":\"wrong\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void tamperedOrExpiredTokensAreRejected() throws Exception {
+        String token = login("admin@college.edu", "admin123");
+        String tampered = token.substring(0, token.indexOf('.') - 2) + "xx" + token.substring(token.indexOf('.'));
+        String expired = tokenService.issue(UUID.randomUUID(), "admin@college.edu", "Admin", Role.ADMIN,
+                Instant.now().minusSeconds(1));
+
+        assertThat(tokenService.verify(tampered)).isEmpty();
+        assertThat(tokenService.verify(expired)).isEmpty();
+        assertThat(tokenService.verify("not-a-token")).isEmpty();
+        mockMvc.perform(get("/api/dashboard/stats").header(HttpHeaders.AUTHORIZATION, "Bearer " + tampered))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void basicAuthStillWorks() throws Exception {
+        mockMvc.perform(get("/api/dashboard/stats").with(request -> {
+                    request.addHeader(HttpHeaders.AUTHORIZATION, basic("admin@college.edu", "admin123"));
+                    return request;
+                }))
+                .andExpect(status().isOk());
+    }
+
+    private String login(String email, String password) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, password))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode json = objectMapper.readTree(body);
+        assertThat(json.get("tokenType").asText()).isEqualTo("Bearer");
+        return json.get("token").asText();
+    }
+
+    static String basic(String email, String password) {
+        return "Basic " + java.util.Base64.getEncoder().encodeToString((email + ":" + password).getBytes());
+    }
+
+    private record LoginRequest(String email, String password) {}
+}
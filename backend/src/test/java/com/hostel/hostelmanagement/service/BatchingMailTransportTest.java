@@ -0,0 +1,105 @@
+package com.hostel.hostelmanagement.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class BatchingMailTransportTest {
+
+    private final JavaMailSender mailSender = mock(JavaMailSender.class);
+    private final List<Integer> batches = new ArrayList<>();
+    private BatchingMailTransport transport;
+
+    @AfterEach
+    void shutdown() {
+        transport.destroy();
+    }
+
+    @Test
+    void fullBatchIsSentOverOneCallImmediately() throws Exception {
+        recordBatches();
+        transport = new BatchingMailTransport(mailSender, Runnable::run, new SimpleMeterRegistry(), 10, Duration.ofHours(1));
+
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            results.add(transport.send(message("student" + i + "@college.edu")));
+        }
+
+        // Two full batches went out without waiting; the remaining five wait for size or time
+        assertThat(batches).containsExactly(10, 10);
+        assertThat(results.subList(0, 20)).allMatch(CompletableFuture::isDone);
+        assertThat(results.subList(20, 25)).noneMatch(CompletableFuture::isDone);
+
+        transport.flush();
+        assertThat(batches).containsExactly(10, 10, 5);
+        assertThat(results).allMatch(r -> r.isDone() && !r.isCompletedExceptionally());
+    }
+
+    @Test
+    void partialBatchIsFlushedAfterMaxDelay() throws Exception {
+        recordBatches();
+        transport = new BatchingMailTransport(mailSender, Runnable::run, new SimpleMeterRegistry(), 50, Duration.ofMillis(50));
+
+        CompletableFuture<Void> first = transport.send(message("a@college.edu"));
+        CompletableFuture<Void> second = transport.send(message("b@college.edu"));
+
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(first).isCompletedWithValue(null);
+        assertThat(batches).containsExactly(2);
+    }
+
+    @Test
+    void onlyRejectedMessagesFail() throws Exception {
+        SimpleMailMessage good = message("good@college.edu");
+        SimpleMailMessage bad = message("bad@college.edu");
+        doAnswer(invocation -> {
+            Map<Object, Exception> failed = new LinkedHashMap<>();
+            failed.put(bad, new IllegalStateException("550 mailbox unavailable"));
+            throw new MailSendException(failed);
+        }).when(mailSender).send(any(SimpleMailMessage[].class));
+        transport = new BatchingMailTransport(mailSender, Runnable::run, new SimpleMeterRegistry(), 2, Duration.ofHours(1));
+
+        CompletableFuture<Void> goodResult = transport.send(good);
+        CompletableFuture<Void> badResult = transport.send(bad);
+
+        assertThat(goodResult).isCompletedWithValue(null);
+        assertThatThrownBy(badResult::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("550 mailbox unavailable");
+    }
+
+    private void recordBatches() {
+        doAnswer(invocation -> {
+            synchronized (batches) {
+                batches.add(invocation.getArguments().length);
+            }
+            return null;
+        }).when(mailSender).send(any(SimpleMailMessage[].class));
+    }
+
+    private static SimpleMailMessage message(String to) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(to);
+        message.setSubject("Subject");
+        message.setText("Body");
+        return message;
+    }
+}
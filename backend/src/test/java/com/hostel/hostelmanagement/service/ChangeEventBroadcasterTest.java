@@ -0,0 +1,172 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.event.ComplaintStatusChangedEvent;
+import com.hostel.hostelmanagement.event.TicketStatusChangedEvent;
+import com.hostel.hostelmanagement.model.ComplaintStatus;
+import com.hostel.hostelmanagement.model.ComplaintType;
+import com.hostel.hostelmanagement.model.Role;
+import com.hostel.hostelmanagement.model.TicketStatus;
+import com.hostel.hostelmanagement.model.User;
+import com.hostel.hostelmanagement.repository.UserRepository;
+import com.hostel.hostelmanagement.security.TokenService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ChangeEventBroadcasterTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ChangeEventBroadcaster broadcaster;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final List<User> users = new ArrayList<>();
+    private final List<Stream<String>> streams = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        streams.forEach(Stream::close);
+        userRepository.deleteAll(users);
+        users.forEach(userCache::evict);
+    }
+
+    @Test
+    void eachSubscriberOnlyReceivesTheChangesItMaySee() throws Exception {
+        User student = user(Role.STUDENT);
+        User otherStudent = user(Role.STUDENT);
+        User cleaner = user(Role.CLEANER);
+        User warden = user(Role.WARDEN);
+        int before = broadcaster.subscriberCount();
+
+        BlockingQueue<String> studentEvents = stream(student);
+        BlockingQueue<String> cleanerEvents = stream(cleaner);
+        BlockingQueue<String> wardenEvents = stream(warden);
+        assertThat(studentEvents.poll(5, TimeUnit.SECONDS)).startsWith("event:connected");
+        assertThat(cleanerEvents.poll(5, TimeUnit.SECONDS)).startsWith("event:connected");
+        assertThat(wardenEvents.poll(5, TimeUnit.SECONDS)).startsWith("event:connected");
+        assertThat(broadcaster.subscriberCount()).isEqualTo(before + 3);
+
+        UUID ownComplaint = UUID.randomUUID();
+        UUID otherComplaint = UUID.randomUUID();
+        eventPublisher.publishEvent(new ComplaintStatusChangedEvent(otherComplaint, ComplaintType.WARDEN,
+                otherStudent.getId(), null, ComplaintStatus.SUBMITTED, ComplaintStatus.IN_PROGRESS));
+        eventPublisher.publishEvent(new ComplaintStatusChangedEvent(ownComplaint, ComplaintType.CLEANER,
+                student.getId(), cleaner.getId(), ComplaintStatus.SUBMITTED, ComplaintStatus.IN_PROGRESS));
+        eventPublisher.publishEvent(new TicketStatusChangedEvent(UUID.randomUUID(), ownComplaint,
+                student.getId(), null, TicketStatus.OPEN, TicketStatus.RESOLVED));
+
+        assertThat(next(studentEvents)).startsWith("event:complaint").contains(ownComplaint.toString());
+        assertThat(next(studentEvents)).startsWith("event:ticket").contains("\"newStatus\":\"RESOLVED\"");
+        assertThat(next(cleanerEvents)).startsWith("event:complaint").contains(ownComplaint.toString());
+        assertThat(next(wardenEvents)).startsWith("event:complaint").contains(otherComplaint.toString());
+        assertThat(next(wardenEvents)).startsWith("event:complaint").contains(ownComplaint.toString());
+        assertThat(next(wardenEvents)).startsWith("event:ticket");
+
+        // Nothing else was delivered: the student never saw the other student's complaint,
+        // and the cleaner never saw the ticket
+        assertThat(studentEvents.poll(200, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(cleanerEvents).isEmpty();
+    }
+
+    @Test
+    void streamRequiresAuthentication() throws Exception {
+        HttpResponse<Void> response = client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events/stream")).build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        assertThat(response.statusCode()).isEqualTo(401);
+    }
+
+    // Collects "event:<name> <data>" for every event on the stream, skipping heartbeats
+    private BlockingQueue<String> stream(User user) throws Exception {
+        String token = tokenService.issue(user.getId(), user.getEmail(), user.getFullName(), user.getRole(),
+                Instant.now().plusSeconds(300));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events/stream"))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "text/event-stream")
+                .build();
+        HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+
+        streams.add(response.body());
+        BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        Thread.ofVirtual().start(() -> {
+            StringBuilder event = new StringBuilder();
+            Iterator<String> lines = response.body().iterator();
+            while (hasNext(lines)) {
+                String line = lines.next();
+                if (line.isEmpty()) {
+                    if (!event.isEmpty()) {
+                        events.add(event.toString().trim());
+                        event.setLength(0);
+                    }
+                } else if (line.startsWith("event:") || line.startsWith("data:")) {
+                    event.append(line).append(' ');
+                }
+            }
+        });
+        return events;
+    }
+
+    // False once the stream ends or is closed by cleanUp()
+    private static boolean hasNext(Iterator<String> lines) {
+        try {
+            return lines.hasNext();
+        } catch (UncheckedIOException e) {
+            return false;
+        }
+    }
+
+    private static String next(BlockingQueue<String> events) throws InterruptedException {
+        String event = events.poll(5, TimeUnit.SECONDS);
+        assertThat(event).as("next event").isNotNull();
+        return event;
+    }
+
+    private User user(Role role) {
+        User user = new User();
+        user.setFullName("Stream " + role);
+        user.setEmail("stream-" + UUID.randomUUID() + "@college.edu");
+        user.setPasswordHash("hash");
+        user.setRole(role);
+        user = userRepository.save(user);
+        userCache.evict(user);
+        users.add(user);
+        return user;
+    }
+}
@@ -0,0 +1,162 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.dto.ComplaintQuery;
+import com.hostel.hostelmanagement.model.Role;
+import com.hostel.hostelmanagement.model.User;
+import com.hostel.hostelmanagement.repository.ComplaintViewRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureJson
+@Import(ComplaintExportService.class)
+class ComplaintExportServiceTest {
+
+    private static final int COMPLAINTS = 60_000;
+
+    @Autowired
+    private ComplaintExportService exportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ComplaintViewRepository complaintViewRepository;
+
+    @BeforeEach
+    void setUp() {
+        User student = new User();
+        student.setFullName("Student");
+        student.setEmail("student@college.edu");
+        student.setPasswordHash("hash");
+        student.setRole(Role.STUDENT);
+        entityManager.persist(student);
+        entityManager.flush();
+
+        String description = "The ceiling fan makes a loud grinding noise, \"sparks\" near the switch board, "
+                + "and the light flickers whenever the fan is turned on. Please send someone to check the wiring.";
+        LocalDateTime start = LocalDateTime.now().minusYears(1);
+        List<Object[]> rows = new ArrayList<>(COMPLAINTS);
+        for (int i = 0; i < COMPLAINTS; i++) {
+            rows.add(new Object[]{
+                    UUID.randomUUID(), student.getId(), "ELECTRICIAN", "Block " + (i % 12) + ", Room " + i,
+                    description, "SUBMITTED", Timestamp.valueOf(start.plusMinutes(i))
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO complaints (id, student_id, complaint_type, location, description, status, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)""", rows);
+        complaintViewRepository.insertAllFromSource();
+    }
+
+    @Test
+    void ndjsonExportStreamsEveryRowWithFlatHeap() throws Exception {
+        HeapSamplingSink sink = new HeapSamplingSink();
+
+        long exported = exportService.export(new ComplaintQuery(), ComplaintExportService.Format.NDJSON, sink);
+
+        assertThat(exported).isEqualTo(COMPLAINTS);
+        assertThat(sink.lines).isEqualTo(COMPLAINTS);
+        // The export is several times larger than the heap growth we allow...
+        assertThat(sink.bytes).isGreaterThan(20L * 1024 * 1024);
+        // ...and retained heap does not grow with the number of batches written
+        assertThat(sink.samples).hasSizeGreaterThan(5);
+        long growth = sink.samples.get(sink.samples.size() - 1) - sink.samples.get(0);
+        assertThat(growth).isLessThan(8L * 1024 * 1024);
+    }
+
+    @Test
+    void csvExportEscapesFieldsAndWritesAHeader() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ComplaintQuery filter = new ComplaintQuery();
+
+        long exported = exportService.export(filter, ComplaintExportService.Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exported).isEqualTo(COMPLAINTS);
+        assertThat(lines).hasSize(COMPLAINTS + 1);
+        assertThat(lines[0]).startsWith("id,complaintType,status,createdAt");
+        assertThat(lines[1]).contains(",\"Block ").contains("\"\"sparks\"\"");
+        IntStream.of(1, COMPLAINTS / 2, COMPLAINTS).forEach(i -> assertThat(lines[i]).contains("ELECTRICIAN,SUBMITTED"));
+    }
+
+    @Test
+    void csvCellsThatLookLikeFormulasAreQuotedAsText() {
+        assertThat(ComplaintExportService.csvEscape("=HYPERLINK(\"http://evil\",\"x\")"))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://evil\"\",\"\"x\"\")\"");
+        assertThat(ComplaintExportService.csvEscape("+1 broken fan")).isEqualTo("'+1 broken fan");
+        assertThat(ComplaintExportService.csvEscape("-")).isEqualTo("'-");
+        assertThat(ComplaintExportService.csvEscape("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(ComplaintExportService.csvEscape("Room 1 = broken")).isEqualTo("Room 1 = broken");
+        assertThat(ComplaintExportService.csvEscape("")).isEmpty();
+    }
+
+    @Test
+    void anUnknownFormatIsABadRequest() {
+        assertThat(ComplaintExportService.Format.parse("CSV")).isEqualTo(ComplaintExportService.Format.CSV);
+        assertThatThrownBy(() -> ComplaintExportService.Format.parse("xlsx"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    // Discards the export, counting lines and sampling live heap after a GC every few batches.
+    private static class HeapSamplingSink extends OutputStream {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final List<Long> samples = new ArrayList<>();
+        private long bytes;
+        private long lines;
+        private int flushes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (flushes++ % 10 == 0) {
+                System.gc();
+                samples.add(memory.getHeapMemoryUsage().getUsed());
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.dto.ComplaintImportResultDto;
+import com.hostel.hostelmanagement.dto.ComplaintImportResultDto.RowError;
+import com.hostel.hostelmanagement.model.Role;
+import com.hostel.hostelmanagement.model.User;
+import com.hostel.hostelmanagement.repository.OutboxRepository;
+import com.hostel.hostelmanagement.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Every batch commits on its own, so the test must not wrap the import in a transaction.
+@DataJpaTest
+@AutoConfigureJson
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ComplaintImportService.class, OutboxService.class, ComplaintViewProjector.class, UserCache.class,
+        SimpleMeterRegistry.class})
+class ComplaintImportServiceTest {
+
+    private static final int ROWS = 2_500;
+
+    @Autowired
+    private ComplaintImportService importService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 20; i++) {
+            user(Role.STUDENT, "import.student" + i + "@college.edu");
+        }
+        user(Role.WARDEN, "import.warden1@college.edu");
+        user(Role.WARDEN, "import.warden2@college.edu");
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM complaint_view");
+        jdbcTemplate.update("DELETE FROM complaints");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void ndjsonRowsAreImportedInBatchesAndBadRowsAreReported() throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < ROWS; i++) {
+            ndjson.append("{\"studentEmail\":\"import.student").append(i % 20).append("@college.edu\",")
+                    .append("\"complaintType\":\"").append(i % 2 == 0 ? "ELECTRICIAN" : "cleaner").append("\",")
+                    .append("\"location\":\"Block ").append(i % 12).append("\",\"description\":\"Imported ").append(i).append("\"")
+                    .append(i % 5 == 0 ? ",\"status\":\"submitted\",\"createdAt\":\"2025-03-01T10:15:30\"" : "")
+                    .append("}\n");
+            if (i == 1_200) {
+                ndjson.append("{\"studentEmail\":\"nobody@college.edu\",\"complaintType\":\"WARDEN\",\"location\":\"A\",\"description\":\"x\"}\n");
+                ndjson.append("{\"studentEmail\":\"import.student1@college.edu\",\"complaintType\":\"PLUMBER\",\"location\":\"A\",\"description\":\"x\"}\n");
+                ndjson.append("{not json\n");
+                ndjson.append("\n");
+                ndjson.append("{\"studentEmail\":\"import.student1@college.edu\",\"complaintType\":\"WARDEN\",\"location\":\"A\",\"description\":\" \"}\n");
+            }
+        }
+
+        ComplaintImportResultDto result = importService.importComplaints(ComplaintExportService.Format.NDJSON, stream(ndjson.toString()));
+
+        assertThat(result.imported()).isEqualTo(ROWS);
+        assertThat(result.failed()).isEqualTo(4);
+        assertThat(result.errorsTruncated()).isFalse();
+        assertThat(result.errors()).extracting(RowError::row).containsExactly(1_202L, 1_203L, 1_204L, 1_205L);
+        assertThat(result.errors().get(0).message()).contains("nobody@college.edu");
+        assertThat(result.errors().get(1).message()).contains("PLUMBER");
+        assertThat(result.errors().get(2).message()).startsWith("Malformed JSON");
+
+        assertThat(count("SELECT COUNT(*) FROM complaints")).isEqualTo(ROWS);
+        assertThat(count("SELECT COUNT(*) FROM complaint_view")).isEqualTo(ROWS);
+        assertThat(count("SELECT COUNT(*) FROM complaints WHERE status = 'SUBMITTED' AND created_at = TIMESTAMP '2025-03-01 10:15:30'"))
+                .isEqualTo(ROWS / 5);
+        // One summary per warden instead of one mail per complaint
+        assertThat(outboxRepository.findAll())
+                .hasSize(2)
+                .allSatisfy(message -> {
+                    assertThat(message.getSubject()).isEqualTo("Complaints Imported: " + ROWS);
+                    assertThat(message.getBody()).contains("ELECTRICIAN: 1250", "CLEANER: 1250", "4 rows could not be imported");
+                });
+    }
+
+    @Test
+    void csvFieldsMayBeQuotedAndColumnsComeInAnyOrder() throws Exception {
+        String csv = """
+                description,location,complaintType,studentEmail,status
+                "Fan, light and ""socket"" broken
+                since Monday",Block 4,ELECTRICIAN,IMPORT.Student3@college.edu,
+                Dusty corridor,Block 5,CLEANER,import.student4@college.edu,IN_PROGRESS
+                Broken tap,Block 6,CLEANER,import.student4@college.edu,FIXED
+                """.replace("\n", "\r\n");
+
+        ComplaintImportResultDto result = importService.importComplaints(ComplaintExportService.Format.CSV, stream(csv));
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.errors()).containsExactly(
+                new RowError(2, "Only SUBMITTED complaints can be imported, not IN_PROGRESS"),
+                new RowError(3, "Unknown status: FIXED"));
+        Map<String, Object> quoted = jdbcTemplate.queryForMap("SELECT description, status FROM complaints WHERE location = 'Block 4'");
+        assertThat(quoted.get("description")).isEqualTo("Fan, light and \"socket\" broken\r\nsince Monday");
+        assertThat(quoted.get("status")).isEqualTo("SUBMITTED");
+    }
+
+    private void user(Role role, String email) {
+        User user = new User();
+        user.setFullName(email);
+        user.setEmail(email);
+        user.setPasswordHash("hash");
+        user.setRole(role);
+        // The cache outlives the users each test deletes
+        userCache.evict(userRepository.save(user));
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
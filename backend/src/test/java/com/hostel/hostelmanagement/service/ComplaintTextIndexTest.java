@@ -0,0 +1,113 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.model.ComplaintStatus;
+import com.hostel.hostelmanagement.model.ComplaintType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComplaintTextIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void everyWordMustMatchAndNewestComesFirst() {
+        ComplaintTextIndex index = new ComplaintTextIndex();
+        UUID oldFan = put(index, ComplaintStatus.SUBMITTED, 1, "Block A, Room 101", "Ceiling FAN is broken");
+        UUID light = put(index, ComplaintStatus.SUBMITTED, 2, "Block A, Room 102", "Light flickers");
+        UUID newFan = put(index, ComplaintStatus.SUBMITTED, 3, "Block B, Room 7", "Fan makes a noise; the fan-regulator is loose");
+
+        assertThat(index.search("fan", null, null, 10).ids()).containsExactly(newFan, oldFan);
+        assertThat(index.search("Room 101 fan", null, null, 10).ids()).containsExactly(oldFan);
+        assertThat(index.search("room 102", null, null, 10).ids()).containsExactly(light);
+        assertThat(index.search("fan light", null, null, 10).ids()).isEmpty();
+        assertThat(index.search("plumbing", null, null, 10).totalMatches()).isZero();
+    }
+
+    @Test
+    void filtersApplyAndStatusChangesAreReindexed() {
+        ComplaintTextIndex index = new ComplaintTextIndex();
+        UUID first = put(index, ComplaintStatus.SUBMITTED, 1, "Block A", "Fan broken");
+        UUID second = put(index, ComplaintStatus.SUBMITTED, 2, "Block A", "Fan broken again");
+
+        index.put(first, ComplaintType.ELECTRICIAN, ComplaintStatus.COMPLETED, START, "ignored", "ignored");
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("fan", null, ComplaintStatus.COMPLETED, 10).ids()).containsExactly(first);
+        assertThat(index.search("fan", ComplaintType.ELECTRICIAN, ComplaintStatus.SUBMITTED, 10).ids()).containsExactly(second);
+        assertThat(index.search("fan", ComplaintType.CLEANER, null, 10).ids()).isEmpty();
+        // Words are indexed once, when the complaint is filed
+        assertThat(index.search("ignored", null, null, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void limitKeepsTheNewestButCountsEveryMatch() {
+        ComplaintTextIndex index = new ComplaintTextIndex();
+        List<UUID> ids = new ArrayList<>();
+        // Added out of date order, as an import of old complaints would be
+        for (int minute : new int[]{5, 1, 9, 3, 7}) {
+            ids.add(put(index, ComplaintStatus.SUBMITTED, minute, "Corridor", "Dusty"));
+        }
+
+        ComplaintTextIndex.Result result = index.search("dusty corridor", null, null, 2);
+
+        assertThat(result.totalMatches()).isEqualTo(5);
+        assertThat(result.ids()).containsExactly(ids.get(2), ids.get(4));
+    }
+
+    @Test
+    void tokenizerKeepsNumbersAndDropsPunctuation() {
+        assertThat(ComplaintTextIndex.tokenize("Block-B, room 7: AC isn't cooling!"))
+                .containsExactly("block", "room", "7", "ac", "isn", "cooling");
+    }
+
+    // Run with: mvn -Pperf test -Dtest=ComplaintTextIndexTest
+    @Test
+    @Tag("perf")
+    void searchesAMillionComplaintsInMilliseconds() {
+        String[] words = {"fan", "light", "switch", "socket", "wiring", "tap", "leak", "door", "window", "bed",
+                "chair", "table", "dust", "smell", "noise", "broken", "loose", "flickers", "sparks", "cold"};
+        Random random = new Random(42);
+        ComplaintTextIndex index = new ComplaintTextIndex();
+        ComplaintStatus[] statuses = ComplaintStatus.values();
+        for (int i = 0; i < 1_000_000; i++) {
+            StringBuilder description = new StringBuilder();
+            for (int w = 0; w < 8; w++) {
+                description.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            index.put(UUID.randomUUID(), ComplaintType.values()[i % 3], statuses[random.nextInt(statuses.length)],
+                    START.plusSeconds(i), "Block " + (i % 12) + ", Room " + (i % 400), description.toString());
+        }
+
+        String[] queries = {"fan sparks", "room 42 leak", "broken window cold", "block 3 light", "tap"};
+        for (int i = 0; i < 200; i++) {
+            index.search(queries[i % queries.length], null, null, 50);
+        }
+        long[] nanos = new long[200];
+        for (int i = 0; i < nanos.length; i++) {
+            long start = System.nanoTime();
+            index.search(queries[i % queries.length], null, i % 2 == 0 ? ComplaintStatus.SUBMITTED : null, 50);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        double p50 = nanos[nanos.length / 2] / 1e6;
+        double p99 = nanos[(int) (nanos.length * 0.99)] / 1e6;
+        System.out.printf("%n=== 1,000,000 complaints: p50 %.2f ms, p99 %.2f ms ===%n%n", p50, p99);
+
+        assertThat(p50).isLessThan(50);
+    }
+
+    private static UUID put(ComplaintTextIndex index, ComplaintStatus status, int minute, String location, String description) {
+        UUID id = UUID.randomUUID();
+        index.put(id, ComplaintType.ELECTRICIAN, status, START.plusMinutes(minute), location, description);
+        return id;
+    }
+}
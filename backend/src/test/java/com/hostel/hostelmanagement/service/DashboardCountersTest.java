@@ -0,0 +1,97 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.event.ComplaintStatusChangedEvent;
+import com.hostel.hostelmanagement.event.TicketStatusChangedEvent;
+import com.hostel.hostelmanagement.model.ComplaintStatus;
+import com.hostel.hostelmanagement.model.ComplaintType;
+import com.hostel.hostelmanagement.model.TicketStatus;
+import com.hostel.hostelmanagement.repository.ComplaintRepository;
+import com.hostel.hostelmanagement.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DashboardCountersTest {
+
+    private final ComplaintRepository complaintRepository = mock(ComplaintRepository.class);
+    private final TicketRepository ticketRepository = mock(TicketRepository.class);
+    private DashboardCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new DashboardCounters(complaintRepository, ticketRepository);
+    }
+
+    @Test
+    void statusTransitionsMoveCountsBetweenStatuses() {
+        UUID complaintId = UUID.randomUUID();
+        UUID ticketId = UUID.randomUUID();
+
+        counters.onComplaintStatusChanged(complaint(complaintId, null, ComplaintStatus.SUBMITTED));
+        counters.onComplaintStatusChanged(complaint(UUID.randomUUID(), null, ComplaintStatus.SUBMITTED));
+        counters.onComplaintStatusChanged(complaint(complaintId, ComplaintStatus.SUBMITTED, ComplaintStatus.IN_PROGRESS));
+        counters.onTicketStatusChanged(new TicketStatusChangedEvent(ticketId, complaintId, null, null, null, TicketStatus.OPEN));
+
+        assertThat(counters.complaints()).isEqualTo(2);
+        assertThat(counters.complaints(ComplaintStatus.SUBMITTED)).isEqualTo(1);
+        assertThat(counters.complaints(ComplaintStatus.IN_PROGRESS)).isEqualTo(1);
+        assertThat(counters.tickets(TicketStatus.OPEN)).isEqualTo(1);
+
+        counters.onComplaintStatusChanged(complaint(complaintId, ComplaintStatus.IN_PROGRESS, ComplaintStatus.COMPLETED));
+        counters.onTicketStatusChanged(new TicketStatusChangedEvent(ticketId, complaintId, null, null, TicketStatus.OPEN, TicketStatus.RESOLVED));
+
+        assertThat(counters.complaints()).isEqualTo(2);
+        assertThat(counters.complaints(ComplaintStatus.IN_PROGRESS)).isZero();
+        assertThat(counters.complaints(ComplaintStatus.COMPLETED)).isEqualTo(1);
+        assertThat(counters.tickets(TicketStatus.OPEN)).isZero();
+        assertThat(counters.tickets(TicketStatus.RESOLVED)).isEqualTo(1);
+    }
+
+    @Test
+    void reconcileCorrectsDriftFromTheDatabase() {
+        counters.onComplaintStatusChanged(complaint(UUID.randomUUID(), null, ComplaintStatus.SUBMITTED));
+        counters.onComplaintStatusChanged(complaint(UUID.randomUUID(), null, ComplaintStatus.REJECTED));
+        when(complaintRepository.countGroupedByStatus()).thenReturn(List.of(
+                new Object[]{ComplaintStatus.SUBMITTED, 40L},
+                new Object[]{ComplaintStatus.COMPLETED, 7L}));
+        when(ticketRepository.countGroupedByStatus()).thenReturn(List.<Object[]>of(
+                new Object[]{TicketStatus.OPEN, 3L}));
+
+        counters.reconcile();
+
+        assertThat(counters.complaints()).isEqualTo(47);
+        assertThat(counters.complaints(ComplaintStatus.SUBMITTED)).isEqualTo(40);
+        assertThat(counters.complaints(ComplaintStatus.COMPLETED)).isEqualTo(7);
+        assertThat(counters.complaints(ComplaintStatus.REJECTED)).isZero();
+        assertThat(counters.tickets(TicketStatus.OPEN)).isEqualTo(3);
+
+        // Events keep being applied on top of the reconciled values
+        counters.onComplaintStatusChanged(complaint(UUID.randomUUID(), null, ComplaintStatus.SUBMITTED));
+        assertThat(counters.complaints(ComplaintStatus.SUBMITTED)).isEqualTo(41);
+    }
+
+    @Test
+    void eventsAppliedWhileReconcilingAreKept() {
+        counters.onComplaintStatusChanged(complaint(UUID.randomUUID(), null, ComplaintStatus.SUBMITTED));
+        // Committed after the count was read, applied before the correction
+        when(complaintRepository.countGroupedByStatus()).thenAnswer(invocation -> {
+            counters.onComplaintStatusChanged(complaint(UUID.randomUUID(), null, ComplaintStatus.SUBMITTED));
+            return List.<Object[]>of(new Object[]{ComplaintStatus.SUBMITTED, 5L});
+        });
+        when(ticketRepository.countGroupedByStatus()).thenReturn(List.of());
+
+        counters.reconcile();
+
+        assertThat(counters.complaints(ComplaintStatus.SUBMITTED)).isEqualTo(6);
+    }
+
+    private static ComplaintStatusChangedEvent complaint(UUID id, ComplaintStatus from, ComplaintStatus to) {
+        return new ComplaintStatusChangedEvent(id, ComplaintType.ELECTRICIAN, null, null, from, to);
+    }
+}
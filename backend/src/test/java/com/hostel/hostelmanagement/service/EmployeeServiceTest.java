@@ -0,0 +1,133 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.config.JpaConfig;
+import com.hostel.hostelmanagement.dto.TicketResolutionDto;
+import com.hostel.hostelmanagement.model.Complaint;
+import com.hostel.hostelmanagement.model.ComplaintStatus;
+import com.hostel.hostelmanagement.model.ComplaintType;
+import com.hostel.hostelmanagement.model.Role;
+import com.hostel.hostelmanagement.model.Ticket;
+import com.hostel.hostelmanagement.model.TicketStatus;
+import com.hostel.hostelmanagement.model.User;
+import com.hostel.hostelmanagement.repository.OutboxRepository;
+import com.hostel.hostelmanagement.security.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({JpaConfig.class, EmployeeService.class, OutboxService.class, ComplaintViewProjector.class,
+        ResolutionLatencyMetrics.class, SimpleMeterRegistry.class})
+class EmployeeServiceTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User cleaner;
+    private User electrician;
+    private Complaint cleaningTask;
+    private Ticket ticket;
+
+    @BeforeEach
+    void setUp() {
+        User student = user(Role.STUDENT);
+        User warden = user(Role.WARDEN);
+        cleaner = user(Role.CLEANER);
+        electrician = user(Role.ELECTRICIAN);
+
+        cleaningTask = complaint(student, ComplaintType.CLEANER, cleaner);
+        ticket = new Ticket();
+        ticket.setComplaint(complaint(student, ComplaintType.ELECTRICIAN, null));
+        ticket.setWarden(warden);
+        ticket.setAssignedTo(electrician);
+        ticket.setStatus(TicketStatus.OPEN);
+        ticket.setTicketNumber("TKT-EMPLOYEE-1");
+        entityManager.persist(ticket);
+        entityManager.flush();
+    }
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void aCleaningTaskIsCompletedOnceByItsCleaner() {
+        signIn(electrician);
+        assertStatus(() -> employeeService.completeCleaningTask(cleaningTask.getId()), HttpStatus.FORBIDDEN);
+
+        signIn(cleaner);
+        assertThat(employeeService.completeCleaningTask(cleaningTask.getId()).getStatus()).isEqualTo(ComplaintStatus.COMPLETED);
+        assertStatus(() -> employeeService.completeCleaningTask(cleaningTask.getId()), HttpStatus.CONFLICT);
+        assertThat(outboxRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void aTicketIsResolvedOnceByItsElectrician() {
+        TicketResolutionDto resolution = new TicketResolutionDto();
+        resolution.setResolutionNotes("Replaced the switch");
+
+        signIn(cleaner);
+        assertStatus(() -> employeeService.resolveTicket(ticket.getId(), resolution), HttpStatus.FORBIDDEN);
+
+        signIn(electrician);
+        assertThat(employeeService.resolveTicket(ticket.getId(), resolution).getStatus()).isEqualTo(TicketStatus.RESOLVED);
+        assertStatus(() -> employeeService.resolveTicket(ticket.getId(), resolution), HttpStatus.CONFLICT);
+        // Student and warden, once
+        assertThat(outboxRepository.count()).isEqualTo(2);
+    }
+
+    private static void assertStatus(Runnable call, HttpStatus status) {
+        assertThatThrownBy(call::run).isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(status));
+    }
+
+    private static void signIn(User user) {
+        AuthenticatedUser principal = new AuthenticatedUser(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+
+    private User user(Role role) {
+        User user = new User();
+        user.setFullName(role.name());
+        user.setEmail("employee." + role.name().toLowerCase() + "@college.edu");
+        user.setPasswordHash("hash");
+        user.setRole(role);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Complaint complaint(User student, ComplaintType type, User assignedTo) {
+        Complaint complaint = new Complaint();
+        complaint.setStudent(student);
+        complaint.setComplaintType(type);
+        complaint.setAssignedTo(assignedTo);
+        complaint.setAssignedAt(assignedTo == null ? null : LocalDateTime.now().minusHours(1));
+        complaint.setLocation("Block C, Room 7");
+        complaint.setDescription("Needs attention");
+        complaint.setStatus(type == ComplaintType.CLEANER ? ComplaintStatus.IN_PROGRESS : ComplaintStatus.TICKET_GENERATED);
+        entityManager.persist(complaint);
+        return complaint;
+    }
+}
@@ -0,0 +1,111 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.dto.HotSpotDto;
+import com.hostel.hostelmanagement.event.ComplaintStatusChangedEvent;
+import com.hostel.hostelmanagement.model.ComplaintStatus;
+import com.hostel.hostelmanagement.model.ComplaintType;
+import com.hostel.hostelmanagement.service.HotSpotService.Granularity;
+import com.hostel.hostelmanagement.service.HotSpotService.Scope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not transactional: the service reads complaints in its own transactions
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HotSpotServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+    private static final Instant NOW = Instant.parse("2025-03-12T10:30:00Z");
+    private static final String LOCATION = "Hot spot block, Room 1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private HotSpotService hotSpotService;
+    private UUID studentId;
+
+    @BeforeEach
+    void setUp() {
+        hotSpotService = new HotSpotService(jdbcTemplate, transactionManager, Runnable::run, Clock.fixed(NOW, ZONE));
+        studentId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, full_name, email, password_hash, role) VALUES (?, ?, ?, ?, ?)",
+                studentId, "Hot Spot Student", "hotspot.student@college.edu", "x", "STUDENT");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM complaints WHERE student_id = ?", studentId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", studentId);
+    }
+
+    @Test
+    void theBackfillRunsOnTheRebuildExecutor() {
+        complaint(LocalDateTime.now(Clock.fixed(NOW, ZONE)).minusHours(1));
+        List<Runnable> submitted = new ArrayList<>();
+        hotSpotService = new HotSpotService(jdbcTemplate, transactionManager, submitted::add, Clock.fixed(NOW, ZONE));
+
+        hotSpotService.refresh();
+        hotSpotService.refresh();
+
+        assertThat(submitted).hasSize(1);
+        submitted.get(0).run();
+        assertThat(complaints()).isEqualTo(1);
+    }
+
+    @Test
+    void aRebuildDropsQueuedComplaintsItAlreadyCounted() {
+        LocalDateTime now = LocalDateTime.now(Clock.fixed(NOW, ZONE));
+        hotSpotService.rebuild();
+
+        // Committed and queued just before the rebuild read the table: counted once, by the read
+        queue(complaint(now.minusMinutes(5)));
+        hotSpotService.rebuild();
+        assertThat(complaints()).isEqualTo(1);
+
+        // Created after the snapshot: only the queue counts it
+        queue(complaint(now.plusSeconds(1)));
+        hotSpotService.rebuild();
+        assertThat(complaints()).isEqualTo(2);
+    }
+
+    private long complaints() {
+        return hotSpotService.top(Granularity.WEEK, 1, Scope.LOCATION, null, 10).stream()
+                .filter(h -> h.location().equals(LOCATION))
+                .mapToLong(HotSpotDto::complaints)
+                .sum();
+    }
+
+    private UUID complaint(LocalDateTime createdAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO complaints (id, student_id, complaint_type, location, description, status, created_at) "
+                        + "VALUES (?, ?, 'ELECTRICIAN', ?, 'Broken light', 'SUBMITTED', ?)",
+                id, studentId, LOCATION, Timestamp.valueOf(createdAt));
+        return id;
+    }
+
+    private void queue(UUID complaintId) {
+        hotSpotService.onComplaintStatusChanged(new ComplaintStatusChangedEvent(
+                complaintId, ComplaintType.ELECTRICIAN, studentId, null, null, ComplaintStatus.SUBMITTED));
+    }
+}
@@ -0,0 +1,77 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.model.ComplaintType;
+import com.hostel.hostelmanagement.service.HotSpotService.Granularity;
+import com.hostel.hostelmanagement.service.HotSpotService.Scope;
+import com.hostel.hostelmanagement.service.LocationHotSpots.HotSpot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocationHotSpotsTest {
+
+    // A Wednesday afternoon
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 12, 15, 30);
+
+    @Test
+    void locationsAreRankedPerTypeAndRolledUpByBlock() {
+        LocationHotSpots hotSpots = new LocationHotSpots();
+        for (int i = 0; i < 3; i++) {
+            hotSpots.add("Block A, Room 12", ComplaintType.ELECTRICIAN, NOW.minusMinutes(i));
+        }
+        hotSpots.add("  block a,   ROOM 12 ", ComplaintType.CLEANER, NOW);
+        hotSpots.add("Block A, Room 14", ComplaintType.ELECTRICIAN, NOW);
+        hotSpots.add("Block B, Room 3", ComplaintType.ELECTRICIAN, NOW);
+        hotSpots.add("Block B, Room 3", ComplaintType.ELECTRICIAN, NOW);
+        hotSpots.add("Mess hall", ComplaintType.CLEANER, NOW);
+
+        assertThat(hotSpots.top(Granularity.WEEK, 1, Scope.LOCATION, ComplaintType.ELECTRICIAN, 2, NOW)).containsExactly(
+                new HotSpot("Block A, Room 12", ComplaintType.ELECTRICIAN, 3),
+                new HotSpot("Block B, Room 3", ComplaintType.ELECTRICIAN, 2));
+        assertThat(hotSpots.top(Granularity.WEEK, 1, Scope.LOCATION, null, 10, NOW)).containsExactly(
+                new HotSpot("Block A, Room 12", null, 4),
+                new HotSpot("Block B, Room 3", null, 2),
+                new HotSpot("Block A, Room 14", null, 1),
+                new HotSpot("Mess hall", null, 1));
+        assertThat(hotSpots.top(Granularity.WEEK, 1, Scope.BLOCK, ComplaintType.ELECTRICIAN, 10, NOW)).containsExactly(
+                new HotSpot("Block A", ComplaintType.ELECTRICIAN, 4),
+                new HotSpot("Block B", ComplaintType.ELECTRICIAN, 2));
+    }
+
+    @Test
+    void windowsOnlyCoverTheRequestedPeriods() {
+        LocationHotSpots hotSpots = new LocationHotSpots();
+        hotSpots.add("Room 1", ComplaintType.ELECTRICIAN, NOW);
+        hotSpots.add("Room 1", ComplaintType.ELECTRICIAN, NOW.minusHours(1));
+        // Monday of this week, and Sunday of the last one
+        hotSpots.add("Room 1", ComplaintType.ELECTRICIAN, NOW.minusDays(2).withHour(0));
+        hotSpots.add("Room 1", ComplaintType.ELECTRICIAN, NOW.minusDays(3));
+        // Past the hourly and daily retention
+        hotSpots.add("Room 1", ComplaintType.ELECTRICIAN, NOW.minusDays(100));
+
+        assertThat(count(hotSpots, Granularity.HOUR, 1)).isEqualTo(1);
+        assertThat(count(hotSpots, Granularity.HOUR, 2)).isEqualTo(2);
+        assertThat(count(hotSpots, Granularity.DAY, 1)).isEqualTo(2);
+        assertThat(count(hotSpots, Granularity.DAY, 3)).isEqualTo(3);
+        assertThat(count(hotSpots, Granularity.DAY, 1000)).isEqualTo(4);
+        assertThat(count(hotSpots, Granularity.HOUR, 1000)).isEqualTo(3);
+        assertThat(count(hotSpots, Granularity.WEEK, 1)).isEqualTo(3);
+        assertThat(count(hotSpots, Granularity.WEEK, 2)).isEqualTo(4);
+        assertThat(count(hotSpots, Granularity.WEEK, 53)).isEqualTo(5);
+    }
+
+    @Test
+    void anEmptyWindowHasNoHotSpots() {
+        LocationHotSpots hotSpots = new LocationHotSpots();
+        hotSpots.add("Room 1", ComplaintType.CLEANER, NOW.minusWeeks(2));
+
+        assertThat(hotSpots.top(Granularity.WEEK, 1, Scope.LOCATION, null, 10, NOW)).isEmpty();
+        assertThat(hotSpots.top(Granularity.WEEK, 1, Scope.BLOCK, null, 10, NOW.minusWeeks(2))).isEmpty();
+    }
+
+    private static long count(LocationHotSpots hotSpots, Granularity granularity, int periods) {
+        return hotSpots.top(granularity, periods, Scope.LOCATION, ComplaintType.ELECTRICIAN, 1, NOW).getFirst().complaints();
+    }
+}
@@ -0,0 +1,104 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.config.AsyncConfig;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Messages per second delivered to a local SMTP server (GreenMail), one connection per message
+// vs the batching transport. Both run on the same notification pool so the only difference is
+// how many SMTP sessions are opened.
+// Run with: mvn -Pperf test -Dtest=MailThroughputTest
+@Tag("perf")
+class MailThroughputTest {
+
+    private static final int MESSAGES = 2_000;
+
+    private GreenMail smtpServer;
+    private JavaMailSenderImpl mailSender;
+    private ThreadPoolTaskExecutor notificationExecutor;
+
+    @BeforeEach
+    void start() {
+        smtpServer = new GreenMail(new ServerSetup(0, "127.0.0.1", ServerSetup.PROTOCOL_SMTP).dynamicPort());
+        smtpServer.start();
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtpServer.getSmtp().getPort());
+        notificationExecutor = new AsyncConfig().notificationExecutor(new SimpleMeterRegistry(), 4, 4, MESSAGES, 10);
+    }
+
+    @AfterEach
+    void stop() {
+        notificationExecutor.shutdown();
+        smtpServer.stop();
+    }
+
+    @Test
+    void batchingOutperformsOneConnectionPerMessage() throws Exception {
+        BatchingMailTransport transport = new BatchingMailTransport(
+                mailSender, notificationExecutor, new SimpleMeterRegistry(), 50, Duration.ofMillis(200));
+
+        // Warm up both paths
+        perMessage(200);
+        batched(transport, 200);
+
+        double perMessagePerSecond = perMessage(MESSAGES);
+        double batchedPerSecond = batched(transport, MESSAGES);
+        transport.destroy();
+
+        System.out.printf("%n=== %,d mails to local SMTP, 4 sender threads ===%n", MESSAGES);
+        System.out.printf("One connection per message : %,8.0f msg/s%n", perMessagePerSecond);
+        System.out.printf("Batched (50 per connection): %,8.0f msg/s  (%.1fx)%n%n",
+                batchedPerSecond, batchedPerSecond / perMessagePerSecond);
+
+        assertThat(smtpServer.getReceivedMessages()).hasSize(2 * (200 + MESSAGES));
+        assertThat(batchedPerSecond).isGreaterThan(perMessagePerSecond * 2);
+    }
+
+    // What NotificationService did before: mailSender.send(message) per message
+    private double perMessage(int count) {
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> sends = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            SimpleMailMessage message = message(i);
+            sends.add(CompletableFuture.runAsync(() -> mailSender.send(message), notificationExecutor));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+        return count / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private double batched(BatchingMailTransport transport, int count) {
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> sends = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            sends.add(transport.send(message(i)));
+        }
+        transport.flush();
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+        return count / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static SimpleMailMessage message(int i) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@college.edu");
+        message.setTo("warden" + (i % 20) + "@college.edu");
+        message.setSubject("New Complaint Submitted: ELECTRICAL");
+        message.setText("A new complaint has been submitted.\n\nComplaint #" + i);
+        return message;
+    }
+}
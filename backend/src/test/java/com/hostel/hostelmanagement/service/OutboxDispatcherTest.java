@@ -0,0 +1,291 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.model.OutboxMessage;
+import com.hostel.hostelmanagement.model.OutboxStatus;
+import com.hostel.hostelmanagement.repository.OutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.reset;
+
+// Each test drives dispatch() itself (the scheduled poll is off in test properties), and the
+// digest window is closed so enqueued messages are due at once.
+@SpringBootTest(properties = {
+        "app.notifications.digest-window=PT0S",
+        "app.outbox.batch-size=10",
+        "app.outbox.max-attempts=3",
+        "app.outbox.send-timeout=PT1S",
+        "management.health.mail.enabled=false"
+})
+class OutboxDispatcherTest {
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private JavaMailSender mailSender;
+
+    @BeforeEach
+    void clearOutbox() {
+        outboxRepository.deleteAll();
+        reset(mailSender);
+    }
+
+    @Test
+    void committedMessagesAreSentOnceABatchPerPoll() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            for (int i = 0; i < 25; i++) {
+                outboxService.enqueue("student" + i + "@college.edu", "Subject", "Body");
+            }
+        });
+
+        assertThat(outboxDispatcher.dispatch()).isEqualTo(10);
+        assertThat(outboxDispatcher.dispatch()).isEqualTo(10);
+        assertThat(outboxDispatcher.dispatch()).isEqualTo(5);
+        assertThat(outboxDispatcher.dispatch()).isZero();
+
+        assertThat(sentMessages()).hasSize(25);
+        assertThat(outboxRepository.findAll())
+                .allSatisfy(m -> {
+                    assertThat(m.getStatus()).isEqualTo(OutboxStatus.SENT);
+                    assertThat(m.getSentAt()).isNotNull();
+                });
+    }
+
+    @Test
+    void messagesForOneRecipientAreMergedIntoADigest() {
+        double mergedBefore = meterRegistry.counter("notification.coalesced.messages").count();
+        transactionTemplate.executeWithoutResult(tx -> {
+            for (int i = 0; i < 30; i++) {
+                outboxService.enqueue("warden@college.edu", "New Complaint Submitted: " + i, "Complaint " + i);
+            }
+            outboxService.enqueue("student@college.edu", "Ticket Resolved", "Fixed");
+        });
+
+        // The first poll's batch is all warden mail, merged into one digest; the student's
+        // message comes due in the next poll
+        assertThat(outboxDispatcher.dispatch()).isEqualTo(30);
+        assertThat(outboxDispatcher.dispatch()).isEqualTo(1);
+
+        List<SimpleMailMessage> sent = sentMessages();
+        assertThat(sent).hasSize(2);
+        SimpleMailMessage digest = sent.stream()
+                .filter(m -> m.getTo()[0].equals("warden@college.edu"))
+                .findFirst().orElseThrow();
+        assertThat(digest.getSubject()).isEqualTo("30 new notifications");
+        assertThat(digest.getText()).contains("Complaint 0", "Complaint 29");
+        assertThat(outboxRepository.findAll()).allSatisfy(m -> assertThat(m.getStatus()).isEqualTo(OutboxStatus.SENT));
+        assertThat(meterRegistry.counter("notification.coalesced.messages").count() - mergedBefore).isEqualTo(30);
+    }
+
+    @Test
+    void digestsLeaveMessagesLeasedElsewhereOrBackingOff() {
+        UUID leased = enqueue("warden@college.edu");
+        // Another node claims it and is still sending
+        assertThat(claimedIds(outboxService.claimDue(10))).containsExactly(leased);
+        UUID backingOff = enqueue("student@college.edu");
+        outboxService.claimDue(10);
+        outboxService.markFailed(backingOff, "smtp down");
+
+        UUID wardenNext = enqueue("warden@college.edu");
+        UUID studentNext = enqueue("student@college.edu");
+
+        assertThat(claimedIds(outboxService.claimDue(10))).containsExactlyInAnyOrder(wardenNext, studentNext);
+    }
+
+    @Test
+    void aDigestHoldsAtMostTheDigestLimit() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            for (int i = 0; i < 60; i++) {
+                outboxService.enqueue("warden@college.edu", "New Complaint Submitted: " + i, "Complaint " + i);
+            }
+        });
+
+        // digest-limit defaults to 50; the rest go out with the next poll
+        assertThat(outboxService.claimDue(10)).hasSize(50);
+        assertThat(outboxService.claimDue(10)).hasSize(10);
+    }
+
+    @Test
+    void rolledBackChangeNeverSendsMail() {
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(tx -> {
+            outboxService.enqueue("student@college.edu", "Subject", "Body");
+            throw new IllegalStateException("business change failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(outboxDispatcher.dispatch()).isZero();
+        assertThat(outboxRepository.count()).isZero();
+        assertThat(sentMessages()).isEmpty();
+    }
+
+    @Test
+    void enqueueOutsideTransactionIsRejected() {
+        assertThatThrownBy(() -> outboxService.enqueue("student@college.edu", "Subject", "Body"))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    void failedSendIsRetriedWithBackoffThenGivenUp() {
+        doThrow(new MailSendException("smtp down")).when(mailSender).send(ArgumentMatchers.<SimpleMailMessage[]>any());
+        transactionTemplate.executeWithoutResult(tx -> outboxService.enqueue("student@college.edu", "Subject", "Body"));
+
+        assertThat(outboxDispatcher.dispatch()).isZero();
+        OutboxMessage message = outboxRepository.findAll().get(0);
+        assertThat(message.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(message.getAttempts()).isEqualTo(1);
+        assertThat(message.getLastError()).contains("smtp down");
+        assertThat(message.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(20));
+
+        // Not due again until the backoff elapses
+        assertThat(outboxDispatcher.dispatch()).isZero();
+        assertThat(sentMessages()).hasSize(1);
+
+        for (int attempt = 2; attempt <= 3; attempt++) {
+            makeDue(message.getId());
+            outboxDispatcher.dispatch();
+        }
+        message = outboxRepository.findById(message.getId()).orElseThrow();
+        assertThat(message.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(message.getAttempts()).isEqualTo(3);
+
+        makeDue(message.getId());
+        outboxDispatcher.dispatch();
+        assertThat(sentMessages()).hasSize(3);
+    }
+
+    @Test
+    void aSendTheServerNeverAnswersTimesOut() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(mailSender).send(ArgumentMatchers.<SimpleMailMessage[]>any());
+        UUID id = enqueue("student@college.edu");
+
+        try {
+            long start = System.nanoTime();
+            assertThat(outboxDispatcher.dispatch()).isZero();
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(10));
+        } finally {
+            release.countDown();
+        }
+        OutboxMessage message = outboxRepository.findById(id).orElseThrow();
+        assertThat(message.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(message.getAttempts()).isEqualTo(1);
+        assertThat(message.getLastError()).contains("No answer from the mail server");
+    }
+
+    @Test
+    void sentMessagesAreDeletedAfterTheRetention() {
+        UUID old = enqueue("old@college.edu");
+        UUID recent = enqueue("recent@college.edu");
+        UUID pending = enqueue("pending@college.edu");
+        outboxService.markSent(List.of(old, recent));
+        transactionTemplate.executeWithoutResult(tx -> outboxRepository.findById(old)
+                .ifPresent(m -> m.setSentAt(LocalDateTime.now().minusDays(8))));
+
+        assertThat(outboxDispatcher.purgeSent()).isEqualTo(1);
+        assertThat(outboxRepository.findAll()).extracting(OutboxMessage::getId)
+                .containsExactlyInAnyOrder(recent, pending);
+    }
+
+    @Test
+    void backoffDoublesUpToTheCap() {
+        assertThat(outboxService.backoff(1)).hasSeconds(30);
+        assertThat(outboxService.backoff(2)).hasSeconds(60);
+        assertThat(outboxService.backoff(5)).hasSeconds(480);
+        assertThat(outboxService.backoff(20)).hasHours(1);
+    }
+
+    @Test
+    void concurrentClaimsNeverHandOutTheSameMessage() throws Exception {
+        transactionTemplate.executeWithoutResult(tx -> {
+            for (int i = 0; i < 40; i++) {
+                outboxService.enqueue("student" + i + "@college.edu", "Subject", "Body");
+            }
+        });
+
+        // Two "nodes" race for the same due rows
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<List<UUID>>> claims = List.of(claimAfter(start), claimAfter(start));
+        start.countDown();
+        List<UUID> first = claims.get(0).join();
+        List<UUID> second = claims.get(1).join();
+
+        assertThat(first).doesNotContainAnyElementsOf(second);
+        assertThat(first.size() + second.size()).isEqualTo(20);
+    }
+
+    private CompletableFuture<List<UUID>> claimAfter(CountDownLatch start) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return outboxService.claimDue(10).stream().map(OutboxMessage::getId).toList();
+        });
+    }
+
+    // Every message handed to the mail server, however the transport batched them
+    private List<SimpleMailMessage> sentMessages() {
+        return mockingDetails(mailSender).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("send"))
+                .flatMap(invocation -> Arrays.stream(invocation.getArguments()))
+                .map(SimpleMailMessage.class::cast)
+                .toList();
+    }
+
+    private UUID enqueue(String recipient) {
+        return transactionTemplate.execute(tx -> {
+            outboxService.enqueue(recipient, "Subject", "Body");
+            return outboxRepository.findAll().stream()
+                    .filter(m -> m.getRecipient().equals(recipient) && m.getAttempts() == 0 && m.getLeasedUntil() == null)
+                    .findFirst().orElseThrow().getId();
+        });
+    }
+
+    private static List<UUID> claimedIds(List<OutboxMessage> claimed) {
+        return claimed.stream().map(OutboxMessage::getId).toList();
+    }
+
+    private void makeDue(UUID id) {
+        transactionTemplate.executeWithoutResult(tx -> outboxRepository.findById(id)
+                .ifPresent(m -> m.setNextAttemptAt(LocalDateTime.now().minusSeconds(1))));
+    }
+}
@@ -0,0 +1,60 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.dto.PerfSnapshotDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.MetricsEndpoint;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Uses the admin account created by DataInitializer. Health is DOWN here (there is no mail
+// server), so only its presence is checked.
+@SpringBootTest
+@AutoConfigureMockMvc
+class PerfSnapshotStoreTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HealthEndpoint healthEndpoint;
+
+    @Autowired
+    private MetricsEndpoint metricsEndpoint;
+
+    @Test
+    void theRingKeepsTheLastSamplesOldestFirst() {
+        PerfSnapshotStore store = new PerfSnapshotStore(healthEndpoint, metricsEndpoint, 3);
+        List<PerfSnapshotDto> taken = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            taken.add(store.sample().snapshot());
+        }
+
+        assertThat(store.history(null)).containsExactlyElementsOf(taken.subList(2, 5));
+        assertThat(store.history(0)).isEmpty();
+        assertThat(store.latest().snapshot()).isSameAs(taken.get(4));
+        assertThat(taken.get(4).status()).isNotBlank();
+        assertThat(taken.get(4).memUsedBytes()).isPositive();
+    }
+
+    @Test
+    void thePerfPageServesTheLatestSampleAndItsHistory() throws Exception {
+        mockMvc.perform(get("/api/admin/perf").with(httpBasic("admin@college.edu", "admin123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.health.status").isString())
+                .andExpect(jsonPath("$.memUsed.measurements[0].value").isNumber())
+                .andExpect(jsonPath("$.history").isArray())
+                .andExpect(jsonPath("$.history[0].sampledAt").exists());
+    }
+}
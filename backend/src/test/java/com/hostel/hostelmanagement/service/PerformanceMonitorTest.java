@@ -0,0 +1,59 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.dto.PerformanceBreakdownDto;
+import com.hostel.hostelmanagement.dto.PerformanceBreakdownDto.Endpoint;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Uses the admin account created by DataInitializer
+@SpringBootTest
+@AutoConfigureMockMvc
+class PerformanceMonitorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PerformanceMonitor performanceMonitor;
+
+    @Test
+    void requestsShowUpPerEndpointAndRoleWithTheirQueries() throws Exception {
+        performanceMonitor.sample();
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/admin/users/all").with(httpBasic("admin@college.edu", "admin123")))
+                    .andExpect(status().isOk());
+        }
+
+        PerformanceBreakdownDto breakdown = performanceMonitor.sample();
+
+        Endpoint users = breakdown.endpoints().stream()
+                .filter(e -> e.uri().equals("/api/admin/users/all"))
+                .findFirst().orElseThrow();
+        assertThat(users.method()).isEqualTo("GET");
+        assertThat(users.role()).isEqualTo("ADMIN");
+        assertThat(users.requests()).isGreaterThanOrEqualTo(3);
+        assertThat(users.queriesPerRequest()).isGreaterThanOrEqualTo(1);
+        assertThat(users.p99Ms()).isGreaterThanOrEqualTo(users.p50Ms());
+        assertThat(breakdown.hibernate().queries()).isGreaterThanOrEqualTo(3);
+        assertThat(breakdown.hibernate().slowestQueries()).isNotEmpty();
+        assertThat(breakdown.notifications().outboxPending()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void thePerfPageServesTheLastBreakdown() throws Exception {
+        mockMvc.perform(get("/api/admin/perf").with(httpBasic("admin@college.edu", "admin123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.breakdown.windowSeconds").isNumber())
+                .andExpect(jsonPath("$.breakdown.hibernate").exists())
+                .andExpect(jsonPath("$.breakdown.connectionPool").exists());
+    }
+}
@@ -0,0 +1,140 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.model.Complaint;
+import com.hostel.hostelmanagement.model.ComplaintType;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ResolutionLatencyMetricsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ResolutionLatencyMetrics metrics;
+    private UUID student;
+    private UUID cleaner;
+    private UUID electrician;
+    private UUID warden;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        metrics = new ResolutionLatencyMetrics(registry, jdbcTemplate, transactionManager, Duration.ofDays(30), clock);
+        student = user("STUDENT");
+        cleaner = user("CLEANER");
+        electrician = user("ELECTRICIAN");
+        warden = user("WARDEN");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM tickets");
+        jdbcTemplate.update("DELETE FROM complaints");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void backfillRecordsTheStepsInsideTheWindow() {
+        LocalDateTime submitted = NOW.minusDays(3);
+        // A cleaning complaint assigned after 2 hours and completed 5 hours after that
+        complaint(ComplaintType.CLEANER, cleaner, "COMPLETED", submitted, submitted.plusHours(2), submitted.plusHours(7));
+        // An electrical one ticketed after 1 hour and resolved 3 hours later
+        UUID ticketed = complaint(ComplaintType.ELECTRICIAN, null, "COMPLETED", submitted, null, submitted.plusHours(4));
+        jdbcTemplate.update("""
+                INSERT INTO tickets (id, ticket_number, complaint_id, assigned_to_id, warden_id, status, created_at, resolved_at)
+                VALUES (?, 'TKT-1', ?, ?, ?, 'RESOLVED', ?, ?)""",
+                UUID.randomUUID(), ticketed, electrician, warden, at(submitted.plusHours(1)), at(submitted.plusHours(4)));
+        // Still waiting, and finished before the window
+        complaint(ComplaintType.CLEANER, null, "SUBMITTED", submitted, null, submitted);
+        LocalDateTime old = NOW.minusDays(90);
+        complaint(ComplaintType.CLEANER, cleaner, "COMPLETED", old, old.plusHours(1), old.plusHours(2));
+
+        metrics.backfill();
+
+        assertThat(seconds(ResolutionLatencyMetrics.ASSIGN, "CLEANER", cleaner)).isEqualTo(2 * 3600);
+        assertThat(seconds(ResolutionLatencyMetrics.RESOLVE, "CLEANER", cleaner)).isEqualTo(5 * 3600);
+        assertThat(seconds(ResolutionLatencyMetrics.COMPLETE, "CLEANER", cleaner)).isEqualTo(7 * 3600);
+        assertThat(seconds(ResolutionLatencyMetrics.ASSIGN, "ELECTRICIAN", electrician)).isEqualTo(3600);
+        assertThat(seconds(ResolutionLatencyMetrics.RESOLVE, "ELECTRICIAN", electrician)).isEqualTo(3 * 3600);
+        assertThat(seconds(ResolutionLatencyMetrics.COMPLETE, "ELECTRICIAN", electrician)).isEqualTo(4 * 3600);
+        assertThat(registry.find(ResolutionLatencyMetrics.COMPLETE).timers()).hasSize(2);
+        assertThat(metrics.summaries()).hasSize(6)
+                .allSatisfy(summary -> assertThat(summary.percentileSeconds()).containsOnlyKeys("p50", "p95", "p99"));
+    }
+
+    @Test
+    void liveStepsAreOnlyRecordedOnceTheTransactionCommits() {
+        Complaint complaint = new Complaint();
+        complaint.setComplaintType(ComplaintType.CLEANER);
+        complaint.setCreatedAt(NOW.minusMinutes(30));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(tx -> {
+            metrics.assigned(complaint, cleaner, NOW);
+            tx.setRollbackOnly();
+        });
+        assertThat(registry.find(ResolutionLatencyMetrics.ASSIGN).timer()).isNull();
+
+        transaction.executeWithoutResult(tx -> {
+            metrics.assigned(complaint, cleaner, NOW);
+            assertThat(registry.find(ResolutionLatencyMetrics.ASSIGN).timer()).isNull();
+        });
+        assertThat(seconds(ResolutionLatencyMetrics.ASSIGN, "CLEANER", cleaner)).isEqualTo(30 * 60);
+    }
+
+    private double seconds(String metric, String type, UUID employee) {
+        Timer timer = registry.get(metric).tags("type", type, "employee", employee.toString()).timer();
+        assertThat(timer.count()).isEqualTo(1);
+        return timer.totalTime(TimeUnit.SECONDS);
+    }
+
+    private UUID complaint(ComplaintType type, UUID assignee, String status, LocalDateTime createdAt,
+                           LocalDateTime assignedAt, LocalDateTime updatedAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO complaints (id, student_id, assigned_to_id, complaint_type, location, description, status,
+                                        created_at, updated_at, assigned_at)
+                VALUES (?, ?, ?, ?, 'Block A', 'Test', ?, ?, ?, ?)""",
+                id, student, assignee, type.name(), status, at(createdAt), at(updatedAt), at(assignedAt));
+        return id;
+    }
+
+    private UUID user(String role) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, full_name, email, password_hash, role) VALUES (?, ?, ?, 'hash', ?)",
+                id, role, role.toLowerCase() + "@college.edu", role);
+        return id;
+    }
+
+    private static Timestamp at(LocalDateTime time) {
+        return time == null ? null : Timestamp.valueOf(time);
+    }
+}
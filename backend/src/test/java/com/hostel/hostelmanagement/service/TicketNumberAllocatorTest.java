@@ -0,0 +1,135 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.repository.TicketNumberCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Reservations commit in their own transactions, so the test must not wrap them in one.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TicketNumberAllocatorTest {
+
+    private static final Clock OCT_17 = Clock.fixed(Instant.parse("2026-10-17T09:00:00Z"), ZoneOffset.UTC);
+
+    @Autowired
+    private TicketNumberCounterRepository counterRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void clearCounters() {
+        counterRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentRequestsOnSeveralNodesNeverShareANumber() throws Exception {
+        // Three "nodes" with small blocks so they go back to the database often
+        List<TicketNumberAllocator> nodes = List.of(node(7, OCT_17), node(7, OCT_17), node(13, OCT_17));
+        int threads = 12;
+        int perThread = 500;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Callable<Integer>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                TicketNumberAllocator allocator = nodes.get(t % nodes.size());
+                workers.add(() -> {
+                    start.await();
+                    int duplicates = 0;
+                    for (int i = 0; i < perThread; i++) {
+                        if (!issued.add(allocator.nextTicketNumber())) {
+                            duplicates++;
+                        }
+                    }
+                    return duplicates;
+                });
+            }
+            List<Future<Integer>> results = workers.stream().map(pool::submit).toList();
+            start.countDown();
+            for (Future<Integer> result : results) {
+                assertThat(result.get()).isZero();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(issued).hasSize(threads * perThread)
+                .allMatch(number -> number.matches("TKT-20261017-\\d{6}"));
+
+        // Numbers come from the day's sequence; only the unused tails of the last blocks are missing
+        Set<Long> sequence = issued.stream()
+                .map(number -> Long.parseLong(number.substring("TKT-20261017-".length())))
+                .collect(Collectors.toSet());
+        long reservedUpTo = counterRepository.findAll().get(0).getNextValue() - 1;
+        assertThat(LongStream.rangeClosed(1, reservedUpTo).filter(n -> !sequence.contains(n)).count())
+                .isLessThan(7 + 7 + 13);
+    }
+
+    @Test
+    void sequenceRestartsEachDay() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-10-17T23:59:00Z"));
+        TicketNumberAllocator allocator = node(50, clock);
+
+        assertThat(allocator.nextTicketNumber()).isEqualTo("TKT-20261017-000001");
+        assertThat(allocator.nextTicketNumber()).isEqualTo("TKT-20261017-000002");
+
+        clock.instant = Instant.parse("2026-10-18T00:01:00Z");
+        assertThat(allocator.nextTicketNumber()).isEqualTo("TKT-20261018-000001");
+
+        // A second node continues after the first node's block instead of reusing it
+        assertThat(node(50, clock).nextTicketNumber()).isEqualTo("TKT-20261018-000051");
+    }
+
+    private TicketNumberAllocator node(int blockSize, Clock clock) {
+        return new TicketNumberAllocator(dataSource, blockSize, clock);
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.dto.RegisterDto;
+import com.hostel.hostelmanagement.model.Role;
+import com.hostel.hostelmanagement.model.User;
+import com.hostel.hostelmanagement.repository.UserRepository;
+import com.hostel.hostelmanagement.service.impl.AuthServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not transactional, so that every lookup the cache misses goes to the database
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private UserCache userCache;
+    private AuthServiceImpl authService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(userRepository, registry, 100, 300);
+        authService = new AuthServiceImpl(userRepository, new BCryptPasswordEncoder(4), userCache);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'cache.%'");
+    }
+
+    @Test
+    void repeatedLookupsAreServedFromTheCache() {
+        User warden = authService.createUser(register("cache.warden@college.edu", Role.WARDEN));
+        statistics.clear();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(userCache.findByEmail("cache.warden@college.edu")).contains(warden);
+            assertThat(userCache.findById(warden.getId())).contains(warden);
+            assertThat(userCache.findByRole(Role.WARDEN)).contains(warden);
+        }
+        assertThat(userCache.findByEmail("nobody@college.edu")).isEmpty();
+        assertThat(userCache.findById(UUID.randomUUID())).isEmpty();
+
+        // One query per cache and per unknown key
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+        assertThat(registry.get("cache.gets").tags("cache", "users-by-email", "result", "hit").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(registry.get("cache.gets").tags("cache", "users-by-email", "result", "miss").functionCounter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void creatingAUserEvictsTheLookupsItChanges() {
+        assertThat(userCache.findByRole(Role.CLEANER)).isEmpty();
+        assertThat(userCache.findByEmail("cache.cleaner@college.edu")).isEmpty();
+
+        User cleaner = authService.createUser(register("cache.cleaner@college.edu", Role.CLEANER));
+
+        assertThat(userCache.findByRole(Role.CLEANER)).containsExactly(cleaner);
+        assertThat(userCache.findByEmail("cache.cleaner@college.edu")).contains(cleaner);
+    }
+
+    @Test
+    void callersGetTheirOwnCopies() {
+        User warden = authService.createUser(register("cache.copy@college.edu", Role.WARDEN));
+
+        User first = userCache.findById(warden.getId()).orElseThrow();
+        first.setFullName("Changed by a caller");
+        userCache.findByRole(Role.WARDEN).forEach(user -> user.setRole(Role.STUDENT));
+
+        assertThat(userCache.findById(warden.getId())).get().isNotSameAs(first).isEqualTo(warden);
+        assertThat(userCache.findByRole(Role.WARDEN)).contains(warden);
+    }
+
+    private static RegisterDto register(String email, Role role) {
+        RegisterDto dto = new RegisterDto();
+        dto.setFullName(email);
+        dto.setEmail(email);
+        dto.setPassword("secret");
+        dto.setRole(role);
+        return dto;
+    }
+}
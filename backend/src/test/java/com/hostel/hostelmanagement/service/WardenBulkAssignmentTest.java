@@ -0,0 +1,189 @@
+package com.hostel.hostelmanagement.service;
+
+import com.hostel.hostelmanagement.config.JpaConfig;
+import com.hostel.hostelmanagement.dto.BulkAssignmentRequestDto.Assignment;
+import com.hostel.hostelmanagement.dto.TicketDto;
+import com.hostel.hostelmanagement.model.Complaint;
+import com.hostel.hostelmanagement.model.ComplaintStatus;
+import com.hostel.hostelmanagement.model.Role;
+import com.hostel.hostelmanagement.model.User;
+import com.hostel.hostelmanagement.security.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaConfig.class, WardenService.class, OutboxService.class, TicketNumberAllocator.class, ComplaintViewProjector.class,
+        ResolutionLatencyMetrics.class, UserCache.class, SimpleMeterRegistry.class})
+class WardenBulkAssignmentTest {
+
+    private static final int COMPLAINTS = 500;
+    private static final int STUDENTS = 50;
+    private static final String WARDEN = "bulk.warden@college.edu";
+
+    @Autowired
+    private WardenService wardenService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserCache userCache;
+
+    private User warden;
+    private List<User> cleaners;
+    private List<User> electricians;
+    private List<UUID> cleaningComplaints;
+    private List<UUID> electricalComplaints;
+
+    @BeforeEach
+    void setUp() {
+        List<User> students = users(Role.STUDENT, STUDENTS);
+        cleaners = users(Role.CLEANER, 5);
+        electricians = users(Role.ELECTRICIAN, 5);
+        warden = users(Role.WARDEN, 1).get(0);
+        warden.setEmail(WARDEN);
+        entityManager.flush();
+
+        cleaningComplaints = complaints(students, "CLEANER");
+        electricalComplaints = complaints(students, "ELECTRICIAN");
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void ticketsForManyComplaintsTakeAFewRoundTrips() {
+        AuthenticatedUser principal = new AuthenticatedUser(warden);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+        List<Assignment> assignments = assign(electricalComplaints, electricians);
+
+        Statistics statistics = statistics();
+        List<TicketDto> tickets = wardenService.createTickets(assignments);
+        entityManager.flush();
+
+        // Warden, complaints, electricians, existing tickets, one UPDATE, one number range,
+        // then batches of 50 for the tickets and for the outbox rows, and two for complaint_view
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(30);
+        assertThat(tickets).hasSize(COMPLAINTS)
+                .allSatisfy(ticket -> assertThat(ticket.getCreatedAt()).isNotNull());
+        assertThat(tickets.stream().map(TicketDto::getTicketNumber).distinct()).hasSize(COMPLAINTS);
+        assertThat(count("SELECT COUNT(*) FROM tickets")).isEqualTo(COMPLAINTS);
+        assertThat(count("SELECT COUNT(*) FROM complaint_view WHERE ticket_status = 'OPEN' AND status = 'IN_PROGRESS'"))
+                .isEqualTo(COMPLAINTS);
+        assertThat(count("SELECT COUNT(*) FROM complaints WHERE complaint_type = 'ELECTRICIAN' AND status = 'IN_PROGRESS'"))
+                .isEqualTo(COMPLAINTS);
+        // One notification per student and one per electrician
+        assertThat(count("SELECT COUNT(*) FROM outbox")).isEqualTo(STUDENTS + electricians.size());
+    }
+
+    @Test
+    void cleaningApprovalIsOneUpdatePerCleaner() {
+        List<Assignment> assignments = assign(cleaningComplaints, cleaners);
+
+        Statistics statistics = statistics();
+        List<Complaint> approved = wardenService.approveCleaningComplaints(assignments);
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(15);
+        assertThat(approved).hasSize(COMPLAINTS)
+                .allSatisfy(complaint -> assertThat(complaint.getStatus()).isEqualTo(ComplaintStatus.IN_PROGRESS));
+        for (User cleaner : cleaners) {
+            assertThat(count("SELECT COUNT(*) FROM complaints WHERE status = 'IN_PROGRESS' AND assigned_to_id = '" + cleaner.getId() + "'"))
+                    .isEqualTo(COMPLAINTS / cleaners.size());
+            assertThat(count("SELECT COUNT(*) FROM complaint_view WHERE status = 'IN_PROGRESS' AND assigned_to_name = '" + cleaner.getFullName() + "'"))
+                    .isEqualTo(COMPLAINTS / cleaners.size());
+        }
+        assertThat(count("SELECT COUNT(*) FROM outbox")).isEqualTo(STUDENTS);
+    }
+
+    @Test
+    void oneInvalidAssignmentRejectsTheWholeRequest() {
+        List<Assignment> assignments = new ArrayList<>(assign(cleaningComplaints, cleaners));
+        assignments.add(new Assignment(electricalComplaints.get(0), cleaners.get(0).getId()));
+
+        assertThatThrownBy(() -> wardenService.approveCleaningComplaints(assignments))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(count("SELECT COUNT(*) FROM complaints WHERE status = 'IN_PROGRESS'")).isZero();
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private static List<Assignment> assign(List<UUID> complaintIds, List<User> assignees) {
+        List<Assignment> assignments = new ArrayList<>(complaintIds.size());
+        for (int i = 0; i < complaintIds.size(); i++) {
+            assignments.add(new Assignment(complaintIds.get(i), assignees.get(i % assignees.size()).getId()));
+        }
+        return assignments;
+    }
+
+    private List<User> users(Role role, int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setFullName(role + " " + i);
+            user.setEmail("bulk." + role.name().toLowerCase() + i + "@college.edu");
+            user.setPasswordHash("hash");
+            user.setRole(role);
+            entityManager.persist(user);
+            // Each test's users are rolled back; the cache would otherwise still list the last ones
+            userCache.evict(user);
+            users.add(user);
+        }
+        return users;
+    }
+
+    private List<UUID> complaints(List<User> students, String type) {
+        LocalDateTime start = LocalDateTime.now().minusDays(1);
+        List<UUID> ids = new ArrayList<>(COMPLAINTS);
+        List<Object[]> rows = new ArrayList<>(COMPLAINTS);
+        for (int i = 0; i < COMPLAINTS; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            rows.add(new Object[]{id, students.get(i % students.size()).getId(), type, "Block " + (i % 12),
+                    "Bulk complaint " + i, "SUBMITTED", Timestamp.valueOf(start.plusSeconds(i))});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO complaints (id, student_id, complaint_type, location, description, status, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)""", rows);
+        return ids;
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,25 @@
+package com.hostel.hostelmanagement.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Entry point of benchmarks.jar. Takes the usual JMH command line and always adds the gc
+// profiler, so every run reports allocation rate (gc.alloc.rate.norm) next to throughput.
+// Build and run with:
+//   mvn -B -pl benchmarks -am package -DskipTests
+//   java -jar benchmarks/target/benchmarks.jar [jmh options, e.g. DtoMapping -p size=10000]
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,104 @@
+package com.hostel.hostelmanagement.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hostel.hostelmanagement.dto.CleaningTaskDto;
+import com.hostel.hostelmanagement.dto.ComplaintDto;
+import com.hostel.hostelmanagement.dto.ComplaintResponseDto;
+import com.hostel.hostelmanagement.dto.DtoMapper;
+import com.hostel.hostelmanagement.dto.TicketDto;
+import com.hostel.hostelmanagement.model.Complaint;
+import com.hostel.hostelmanagement.model.Ticket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Mapping and serializing one response-sized list of complaints or tickets per operation,
+// the way the list endpoints do it: DtoMapper over the entities, then Jackson into the
+// response body (a null stream here, so only serialization is measured).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class DtoMappingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Complaint> complaints;
+    private List<Ticket> tickets;
+    private List<ComplaintDto> complaintDtos;
+    private List<ComplaintResponseDto> complaintResponseDtos;
+    private List<TicketDto> ticketDtos;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        complaints = Fixtures.complaints(size);
+        tickets = Fixtures.tickets(size);
+        complaintDtos = mapComplaints();
+        complaintResponseDtos = mapComplaintResponses();
+        ticketDtos = mapTickets();
+        // Same settings the application's auto-configured ObjectMapper uses
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    @Benchmark
+    public List<ComplaintDto> mapComplaints() {
+        return complaints.stream().map(DtoMapper::toComplaintDto).toList();
+    }
+
+    @Benchmark
+    public List<ComplaintResponseDto> mapComplaintResponses() {
+        return complaints.stream().map(DtoMapper::toComplaintResponseDto).toList();
+    }
+
+    @Benchmark
+    public List<CleaningTaskDto> mapCleaningTasks() {
+        return complaints.stream().map(DtoMapper::toCleaningTaskDto).toList();
+    }
+
+    @Benchmark
+    public List<TicketDto> mapTickets() {
+        return tickets.stream().map(DtoMapper::toTicketDto).toList();
+    }
+
+    @Benchmark
+    public void serializeComplaints() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), complaintDtos);
+    }
+
+    @Benchmark
+    public void serializeComplaintResponses() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), complaintResponseDtos);
+    }
+
+    @Benchmark
+    public void serializeTickets() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), ticketDtos);
+    }
+
+    @Benchmark
+    public void mapAndSerializeTickets() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), mapTickets());
+    }
+}
@@ -0,0 +1,93 @@
+package com.hostel.hostelmanagement.benchmarks;
+
+import com.hostel.hostelmanagement.model.Complaint;
+import com.hostel.hostelmanagement.model.ComplaintStatus;
+import com.hostel.hostelmanagement.model.ComplaintType;
+import com.hostel.hostelmanagement.model.Role;
+import com.hostel.hostelmanagement.model.Ticket;
+import com.hostel.hostelmanagement.model.TicketStatus;
+import com.hostel.hostelmanagement.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+// Detached entities shaped like the ones the read paths load: every complaint has a student,
+// most have an assignee, and every ticket points at its complaint, electrician and warden.
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static List<Complaint> complaints(int count) {
+        Random random = new Random(42);
+        List<User> students = users(Role.STUDENT, 500);
+        List<User> cleaners = users(Role.CLEANER, 40);
+        ComplaintType[] types = ComplaintType.values();
+        ComplaintStatus[] statuses = ComplaintStatus.values();
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 8, 0);
+
+        List<Complaint> complaints = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Complaint complaint = new Complaint();
+            complaint.setId(UUID.randomUUID());
+            complaint.setStudent(students.get(random.nextInt(students.size())));
+            ComplaintStatus status = statuses[random.nextInt(statuses.length)];
+            if (status != ComplaintStatus.SUBMITTED) {
+                complaint.setAssignedTo(cleaners.get(random.nextInt(cleaners.size())));
+            }
+            complaint.setComplaintType(types[random.nextInt(types.length)]);
+            complaint.setLocation("Block " + (i % 12) + ", Room " + (100 + i % 300));
+            complaint.setDescription("The light in the corridor outside the room flickers at night (#" + i + ")");
+            complaint.setStatus(status);
+            complaint.setCreatedAt(start.plusMinutes(i));
+            complaint.setUpdatedAt(start.plusMinutes(i + 30L));
+            complaints.add(complaint);
+        }
+        return complaints;
+    }
+
+    static List<Ticket> tickets(int count) {
+        Random random = new Random(7);
+        List<Complaint> complaints = complaints(count);
+        List<User> electricians = users(Role.ELECTRICIAN, 30);
+        List<User> wardens = users(Role.WARDEN, 5);
+        TicketStatus[] statuses = TicketStatus.values();
+
+        List<Ticket> tickets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Complaint complaint = complaints.get(i);
+            complaint.setComplaintType(ComplaintType.ELECTRICIAN);
+            Ticket ticket = new Ticket();
+            ticket.setId(UUID.randomUUID());
+            ticket.setTicketNumber(String.format("TKT-20260101-%06d", i + 1));
+            ticket.setComplaint(complaint);
+            ticket.setAssignedTo(electricians.get(random.nextInt(electricians.size())));
+            ticket.setWarden(wardens.get(random.nextInt(wardens.size())));
+            TicketStatus status = statuses[random.nextInt(statuses.length)];
+            ticket.setStatus(status);
+            ticket.setCreatedAt(complaint.getCreatedAt().plusHours(1));
+            if (status == TicketStatus.RESOLVED) {
+                ticket.setResolutionNotes("Replaced the starter and the tube");
+                ticket.setResolvedAt(complaint.getCreatedAt().plusHours(6));
+            }
+            tickets.add(ticket);
+        }
+        return tickets;
+    }
+
+    private static List<User> users(Role role, int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setId(UUID.randomUUID());
+            user.setFullName(role.name().charAt(0) + role.name().substring(1).toLowerCase() + " " + i);
+            user.setEmail(role.name().toLowerCase() + i + "@college.edu");
+            user.setRole(role);
+            users.add(user);
+        }
+        return users;
+    }
+}
@@ -9,12 +9,12 @@ const apiClient = axios.create({
 // This is much cleaner than adding the header manually for each API call.
 apiClient.interceptors.request.use(
   (config) => {
-    // Get the stored credentials from localStorage
-    const credentials = localStorage.getItem('userCredentials');
+    // Get the signed token issued by /auth/login from localStorage
+    const token = localStorage.getItem('authToken');
     
-    if (credentials) {
-      // If credentials exist, add the Basic Auth header to the request
-      config.headers.Authorization = `Basic ${credentials}`;
+    if (token) {
+      // If a token exists, add the Bearer header to the request
+      config.headers.Authorization = `Bearer ${token}`;
     }
     
     return config;
@@ -0,0 +1,67 @@
+import { useEffect, useRef } from 'react';
+import apiClient from './apiClient';
+
+// Listens to GET /api/events/stream (server-sent events) and calls onEvent(name, data) for every
+// "complaint", "ticket" and "resync" event. EventSource cannot send the Bearer header, so the
+// stream is read with fetch instead. The connection is retried a few seconds after it drops.
+const RETRY_MS = 5000;
+
+export const subscribeToChanges = (onEvent) => {
+  const controller = new AbortController();
+
+  const connect = async () => {
+    try {
+      const response = await fetch(`${apiClient.defaults.baseURL}/events/stream`, {
+        headers: {
+          Accept: 'text/event-stream',
+          Authorization: `Bearer ${localStorage.getItem('authToken')}`,
+        },
+        signal: controller.signal,
+      });
+      if (!response.ok) throw new Error(`Event stream returned ${response.status}`);
+
+      const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+      let buffer = '';
+      for (;;) {
+        const { value, done } = await reader.read();
+        if (done) break;
+        buffer += value;
+        // Events are separated by a blank line
+        let end;
+        while ((end = buffer.indexOf('\n\n')) >= 0) {
+          dispatch(buffer.slice(0, end), onEvent);
+          buffer = buffer.slice(end + 2);
+        }
+      }
+    } catch (err) {
+      if (controller.signal.aborted) return;
+      console.error('Change stream dropped', err);
+    }
+    if (!controller.signal.aborted) {
+      setTimeout(connect, RETRY_MS);
+    }
+  };
+
+  connect();
+  return () => controller.abort();
+};
+
+const dispatch = (block, onEvent) => {
+  let name = 'message';
+  let data = '';
+  for (const line of block.split('\n')) {
+    if (line.startsWith('event:')) name = line.slice(6).trim();
+    else if (line.startsWith('data:')) data += line.slice(5);
+  }
+  // Comments (heartbeats) and the initial "connected" event carry nothing to act on
+  if (!data || name === 'connected') return;
+  onEvent(name, JSON.parse(data));
+};
+
+// Keeps one stream open while the component is mounted; onEvent may change between renders
+export const useChangeStream = (onEvent) => {
+  const handler = useRef(onEvent);
+  handler.current = onEvent;
+
+  useEffect(() => subscribeToChanges((name, data) => handler.current(name, data)), []);
+};
@@ -0,0 +1,33 @@
+import React, { useState } from 'react';
+import { Loader } from 'lucide-react';
+
+// Shown under cursor-paginated lists. Renders nothing once the last page has been loaded.
+const LoadMoreButton = ({ nextCursor, onLoadMore }) => {
+  const [isLoading, setIsLoading] = useState(false);
+
+  if (!nextCursor) return null;
+
+  const handleClick = async () => {
+    setIsLoading(true);
+    try {
+      await onLoadMore(nextCursor);
+    } finally {
+      setIsLoading(false);
+    }
+  };
+
+  return (
+    <div className="flex justify-center mt-8">
+      <button
+        onClick={handleClick}
+        disabled={isLoading}
+        className="flex items-center gap-2 bg-slate-700/50 hover:bg-slate-700 text-slate-200 font-semibold py-2 px-5 rounded-lg border border-slate-600 transition-colors disabled:opacity-50"
+      >
+        {isLoading && <Loader className="h-4 w-4 animate-spin" />}
+        Load more
+      </button>
+    </div>
+  );
+};
+
+export default LoadMoreButton;
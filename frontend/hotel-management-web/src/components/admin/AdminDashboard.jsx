@@ -1,5 +1,6 @@
 import React, { useEffect, useState } from 'react';
 import apiClient from '../../api/apiClient';
+import LoadMoreButton from '../../components/LoadMoreButton';
 import { motion } from 'framer-motion';
 import { format } from 'date-fns';
 import {
@@ -28,10 +29,33 @@ const formatUptime = (seconds) => {
     return `${d}d ${h}h ${m}m`;
 };
 
+// Requests per sample interval from the cumulative count in each history point
+const requestRates = (history) =>
+    history.slice(1).map((point, i) => Math.max(0, (point.httpRequests ?? 0) - (history[i].httpRequests ?? 0)));
+
+// A small SVG line chart of the given values, scaled to their own range
+const Sparkline = ({ values, className }) => {
+    if (values.length < 2) {
+        return <p className="text-xs text-slate-500">Collecting samples…</p>;
+    }
+    const max = Math.max(...values);
+    const min = Math.min(...values);
+    const range = max - min || 1;
+    const points = values
+        .map((v, i) => `${(i / (values.length - 1)) * 100},${30 - ((v - min) / range) * 28 - 1}`)
+        .join(' ');
+    return (
+        <svg viewBox="0 0 100 30" preserveAspectRatio="none" className={`w-full h-16 ${className}`}>
+            <polyline points={points} fill="none" stroke="currentColor" strokeWidth="1.5" vectorEffect="non-scaling-stroke" />
+        </svg>
+    );
+};
+
 // Main AdminDashboard Component
 const AdminDashboard = () => {
   const [stats, setStats] = useState(null);
   const [complaintHistory, setComplaintHistory] = useState([]);
+  const [historyCursor, setHistoryCursor] = useState(null);
   const [isLoading, setIsLoading] = useState(true);
   const [error, setError] = useState(null);
 
@@ -46,7 +70,8 @@ const AdminDashboard = () => {
         ]);
 
         setStats({ ...statsRes.data, performance: perfRes.data });
-        setComplaintHistory(historyRes.data);
+        setComplaintHistory(historyRes.data.items);
+        setHistoryCursor(historyRes.data.nextCursor);
       } catch (err) {
         setError('Failed to load dashboard data. Please try again later.');
         console.error(err);
@@ -57,6 +82,25 @@ const AdminDashboard = () => {
     fetchStats();
   }, []);
 
+  // The perf endpoint only reads the server's background samples, so polling it is cheap
+  useEffect(() => {
+    const id = setInterval(async () => {
+      try {
+        const perfRes = await apiClient.get('/admin/perf');
+        setStats(prev => prev && { ...prev, performance: perfRes.data });
+      } catch (err) {
+        console.error(err);
+      }
+    }, 15000);
+    return () => clearInterval(id);
+  }, []);
+
+  const loadMoreHistory = async (cursor) => {
+    const response = await apiClient.get('/admin/complaints/all', { params: { cursor } });
+    setComplaintHistory(prev => [...prev, ...response.data.items]);
+    setHistoryCursor(response.data.nextCursor);
+  };
+
   // --- JSX for the component ---
   // --- JSX for the component ---
   if (isLoading || !stats) {
@@ -80,6 +124,7 @@ const AdminDashboard = () => {
 
   const perf = stats?.performance;
   const health = perf?.health?.components;
+  const history = perf?.history ?? [];
   
   return (
     <motion.div
@@ -117,10 +162,16 @@ const AdminDashboard = () => {
           <StatCard title="CPU Usage" value={`${((perf?.cpu?.measurements?.[0]?.value || 0) * 100).toFixed(1)}%`} icon={<Cpu />} color="amber" />
           <StatCard title="Memory" value={`${((perf?.memUsed?.measurements?.[0]?.value || 0) / 1024 / 1024).toFixed(0)} MB`} icon={<MemoryStick />} color="rose" />
         </motion.div>
+        <motion.div className="grid grid-cols-1 md:grid-cols-3 gap-6 mt-6" variants={containerVariants} initial="hidden" animate="visible">
+          <TrendCard title="CPU Usage (%)" color="amber" values={history.map(p => (p.cpuUsage ?? 0) * 100)} />
+          <TrendCard title="Memory (MB)" color="rose" values={history.map(p => (p.memUsedBytes ?? 0) / 1024 / 1024)} />
+          <TrendCard title="HTTP Requests / Sample" color="sky" values={requestRates(history)} />
+        </motion.div>
       </section>
       
       {/* --- Section 3: Enhanced Complaint History with Pagination --- */}
       <ComplaintHistoryTable history={complaintHistory} />
+      <LoadMoreButton nextCursor={historyCursor} onLoadMore={loadMoreHistory} />
 
     </motion.div>
   );
@@ -153,7 +204,20 @@ const StatCard = ({ title, value, icon, color }) => {
   );
 };
 
-
+// --- Trend chart over the perf history ---
+const TrendCard = ({ title, values, color }) => {
+  const colorClasses = { sky: 'text-sky-400', amber: 'text-amber-400', rose: 'text-rose-400' };
+  const last = values[values.length - 1];
+  return (
+    <motion.div variants={itemVariants} className="rounded-xl bg-slate-800/60 p-5 shadow-lg border border-slate-700 backdrop-blur-sm">
+      <div className="flex items-baseline justify-between mb-2">
+        <p className="text-sm font-medium text-slate-400">{title}</p>
+        <p className="text-lg font-bold text-slate-100">{last !== undefined ? last.toFixed(0) : '—'}</p>
+      </div>
+      <Sparkline values={values} className={colorClasses[color]} />
+    </motion.div>
+  );
+};
 
 const statusStyles = {
     SUBMITTED: 'bg-amber-500/10 text-amber-400 border border-amber-500/20',
@@ -1,5 +1,6 @@
 import React, { useState, useEffect, useCallback } from 'react';
 import apiClient from '../../api/apiClient';
+import { useChangeStream } from '../../api/changeStream';
 import { useAuth } from '../../context/AuthContext';
 import { formatDistanceToNow } from 'date-fns';
 import { AnimatePresence, motion } from 'framer-motion';
@@ -25,16 +26,12 @@ const fetchTasks = useCallback(async () => {
     try {
       // Set loading true only on initial fetch
       if (tasks.length === 0) setIsLoading(true);
+      // Both endpoints return the signed-in employee's own work
       const endpoint = isElectrician ? '/electrician/tickets' : '/cleaner/tasks';
+      const response = await apiClient.get(endpoint);
 
-      // ✅ FIX: Added the 'params' object back to the API call.
-      // This sends the cleanerId as a query parameter (e.g., /api/cleaner/tasks?cleanerId=...)
-      // which the backend requires.
-      const response = await apiClient.get(endpoint, {
-        params: isElectrician ? {} : { cleanerId: user.id }
-      });
-
-      setTasks(response.data);
+      // Cleaner tasks are cursor-paginated; electrician tickets are a plain list
+      setTasks(isElectrician ? response.data : response.data.items);
     } catch (err) {
       setError('Could not load your assigned tasks. Please try again.');
       console.error(err);
@@ -50,6 +47,9 @@ const fetchTasks = useCallback(async () => {
     // eslint-disable-next-line react-hooks/exhaustive-deps
   }, [user]); // Run only when user changes
 
+  // Only tasks assigned to this user are streamed, so any change means the list is stale
+  useChangeStream(() => fetchTasks());
+
   // --- Action handlers remain untouched, but will be passed down ---
   const handleCompleteCleaningTask = async (complaintId) => {
     try {
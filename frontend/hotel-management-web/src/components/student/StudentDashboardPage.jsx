@@ -1,35 +1,54 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useCallback } from 'react';
 import { Link } from 'react-router-dom';
 import apiClient from '../../api/apiClient';
+import { useChangeStream } from '../../api/changeStream';
 import ComplaintCard from '../../components/student/ComplaintCard'; // Using the modern card we already designed
+import LoadMoreButton from '../../components/LoadMoreButton';
 import { motion } from 'framer-motion';
 import { AlertTriangle, Loader, LayoutGrid, FilePlus2, Megaphone } from 'lucide-react';
 
 // --- Main Page Component ---
 const StudentDashboardPage = () => {
   const [complaints, setComplaints] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
   const [isLoading, setIsLoading] = useState(true);
   const [error, setError] = useState(null);
 
   // --- Backend data fetching logic is completely untouched ---
-  useEffect(() => {
-    const fetchComplaints = async () => {
-      try {
-        setIsLoading(true);
-        const response = await apiClient.get('/complaints/my-complaints');
-        const sortedComplaints = response.data.sort((a, b) => new Date(b.createdAt) - new Date(a.createdAt));
-        setComplaints(sortedComplaints);
-        setError(null);
-      } catch (err) {
-        console.error('Failed to fetch complaints:', err);
-        setError('Could not load your complaints. Please try again later.');
-      } finally {
-        setIsLoading(false);
-      }
-    };
+  const fetchComplaints = useCallback(async () => {
+    try {
+      setIsLoading(true);
+      // Complaints come back newest first, one page at a time
+      const response = await apiClient.get('/complaints/my-complaints');
+      setComplaints(response.data.items);
+      setNextCursor(response.data.nextCursor);
+      setError(null);
+    } catch (err) {
+      console.error('Failed to fetch complaints:', err);
+      setError('Could not load your complaints. Please try again later.');
+    } finally {
+      setIsLoading(false);
+    }
+  }, []);
 
+  useEffect(() => {
     fetchComplaints();
-  }, []);
+  }, [fetchComplaints]);
+
+  // Only this student's complaints are streamed; a new one or a resync reloads the first page
+  useChangeStream((name, event) => {
+    if (name === 'complaint' && complaints.some(c => c.id === event.complaintId)) {
+      setComplaints(prev => prev.map(c => c.id === event.complaintId ? { ...c, status: event.newStatus } : c));
+    } else if (name !== 'ticket') {
+      fetchComplaints();
+    }
+  });
+
+  const loadMoreComplaints = async (cursor) => {
+    const response = await apiClient.get('/complaints/my-complaints', { params: { cursor } });
+    setComplaints(prev => [...prev, ...response.data.items]);
+    setNextCursor(response.data.nextCursor);
+  };
 
   const renderContent = () => {
     if (isLoading) {
@@ -42,6 +61,7 @@ const StudentDashboardPage = () => {
       return <EmptyState />;
     }
     return (
+      <>
       <motion.div
         className="grid grid-cols-1 lg:grid-cols-2 gap-6"
         initial="hidden"
@@ -52,6 +72,8 @@ const StudentDashboardPage = () => {
           <ComplaintCard key={complaint.id} complaint={complaint} index={index} />
         ))}
       </motion.div>
+      <LoadMoreButton nextCursor={nextCursor} onLoadMore={loadMoreComplaints} />
+      </>
     );
   };
 
@@ -1,9 +1,11 @@
 import React, { useState, useEffect, useCallback } from 'react';
 import apiClient from '../../api/apiClient';
+import { useChangeStream } from '../../api/changeStream';
 import { formatDistanceToNow } from 'date-fns';
 import { AnimatePresence, motion } from 'framer-motion';
-import { AlertTriangle, Loader, Check, Ticket, ListChecks, History, MapPin, Clock } from 'lucide-react';
+import { AlertTriangle, Loader, Check, Ticket, ListChecks, History, MapPin, Clock, Search } from 'lucide-react';
 import GenerateTicketModal from '../../components/warden/GenerateTicketModal';
+import LoadMoreButton from '../../components/LoadMoreButton';
 
 // --- Status styles for consistency ---
 const statusStyles = {
@@ -17,18 +19,23 @@ const statusStyles = {
 // --- Main Page Component ---
 const WardenDashboardPage = () => {
   const [complaints, setComplaints] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
   const [cleaners, setCleaners] = useState([]);
   const [isLoading, setIsLoading] = useState(true);
   const [error, setError] = useState(null);
   const [isModalOpen, setIsModalOpen] = useState(false);
   const [selectedComplaint, setSelectedComplaint] = useState(null);
   const [view, setView] = useState('active'); // 'active' or 'completed'
+  const [searchTerm, setSearchTerm] = useState('');
+  const [searchResults, setSearchResults] = useState(null); // null when not searching
 
   // --- Backend data fetching logic is untouched ---
   const fetchComplaints = useCallback(async () => {
     try {
+      // Complaints come back newest first, one page at a time
       const response = await apiClient.get('/warden/complaints');
-      setComplaints(response.data.sort((a, b) => new Date(b.createdAt) - new Date(a.createdAt)));
+      setComplaints(response.data.items);
+      setNextCursor(response.data.nextCursor);
     } catch (err) {
       setError('Could not load complaints.');
       console.error(err);
@@ -50,6 +57,38 @@ const WardenDashboardPage = () => {
     fetchComplaints();
   }, [fetchComplaints]);
 
+  // Status changes made elsewhere (other wardens, cleaners, electricians) are patched in place;
+  // anything not on the loaded pages, or a resync, reloads the first page
+  useChangeStream((name, event) => {
+    if (name !== 'complaint') {
+      if (name === 'resync') fetchComplaints();
+      return;
+    }
+    if (complaints.some(c => c.id === event.complaintId)) {
+      setComplaints(prev => prev.map(c => c.id === event.complaintId ? { ...c, status: event.newStatus } : c));
+    } else {
+      fetchComplaints();
+    }
+  });
+
+  // Searched on the server (words in description or location); debounced while typing
+  useEffect(() => {
+    const q = searchTerm.trim();
+    if (!q) {
+      setSearchResults(null);
+      return;
+    }
+    const timer = setTimeout(async () => {
+      try {
+        const response = await apiClient.get('/warden/complaints/search', { params: { q, limit: 100 } });
+        setSearchResults(response.data.items);
+      } catch (err) {
+        console.error('Search failed', err);
+      }
+    }, 250);
+    return () => clearTimeout(timer);
+  }, [searchTerm]);
+
   // --- Action Handlers are untouched ---
   const handleApproveCleaning = async (complaintId, cleanerId) => {
     try {
@@ -61,14 +100,21 @@ const WardenDashboardPage = () => {
     }
   };
 
+  const loadMoreComplaints = async (cursor) => {
+    const response = await apiClient.get('/warden/complaints', { params: { cursor } });
+    setComplaints(prev => [...prev, ...response.data.items]);
+    setNextCursor(response.data.nextCursor);
+  };
+
   const handleOpenTicketModal = (complaint) => {
     setSelectedComplaint(complaint);
     setIsModalOpen(true);
   };
   
   // --- Filtered lists based on the current view ---
-  const activeComplaints = complaints.filter(c => c.status !== 'COMPLETED');
-  const completedComplaints = complaints.filter(c => c.status === 'COMPLETED');
+  const shownComplaints = searchResults ?? complaints;
+  const activeComplaints = shownComplaints.filter(c => c.status !== 'COMPLETED');
+  const completedComplaints = shownComplaints.filter(c => c.status === 'COMPLETED');
   
   const renderContent = () => {
     if (isLoading) return <ComplaintCardSkeleton />;
@@ -117,17 +163,30 @@ const WardenDashboardPage = () => {
           <p className="text-slate-400 mt-1">Review, assign, and process all student complaints.</p>
         </div>
 
-        {/* --- View Switcher --- */}
-        <ViewSwitcher
-          view={view}
-          setView={setView}
-          activeCount={activeComplaints.length}
-          completedCount={completedComplaints.length}
-        />
+        {/* --- View Switcher and Search --- */}
+        <div className="flex flex-col sm:flex-row sm:items-center gap-4">
+          <ViewSwitcher
+            view={view}
+            setView={setView}
+            activeCount={activeComplaints.length}
+            completedCount={completedComplaints.length}
+          />
+          <div className="relative flex-1 max-w-sm">
+            <Search className="absolute left-3 top-1/2 -translate-y-1/2 h-4 w-4 text-slate-500" />
+            <input
+              type="search"
+              value={searchTerm}
+              onChange={(e) => setSearchTerm(e.target.value)}
+              placeholder="Search description or location"
+              className="w-full pl-9 pr-3 py-2.5 bg-slate-800/80 border border-slate-700 rounded-xl text-sm text-slate-200 placeholder-slate-500 focus:outline-none focus:ring-2 focus:ring-sky-500/50"
+            />
+          </div>
+        </div>
 
         {/* --- Content Area --- */}
         <div className="mt-8">
             {renderContent()}
+            {!isLoading && !error && searchResults === null && <LoadMoreButton nextCursor={nextCursor} onLoadMore={loadMoreComplaints} />}
         </div>
 
       </motion.div>
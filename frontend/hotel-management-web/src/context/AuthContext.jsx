@@ -12,37 +12,33 @@ export const AuthProvider = ({ children }) => {
   // Check for a stored user session when the app loads
   useEffect(() => {
     const storedUser = localStorage.getItem('userData');
-    const storedCredentials = localStorage.getItem('userCredentials');
+    const storedToken = localStorage.getItem('authToken');
 
 
-    if (storedUser && storedCredentials) {
+    if (storedUser && storedToken) {
       setUser(JSON.parse(storedUser));
     }
     setIsLoading(false);
   }, []);
 
   const login = async (email, password) => {
-    // Encode credentials for Basic Auth
-    const credentials = btoa(`${email}:${password}`);
-    
-    // Store credentials so the apiClient interceptor can use them for the next request
-    localStorage.setItem('userCredentials', credentials);
-
     try {
-      // Make a request to the /auth/me endpoint to verify credentials and get user data
-      const response = await apiClient.get('/auth/me');
+      // Exchange the credentials once for a signed token; the password is not stored or resent
+      const response = await apiClient.post('/auth/login', { email, password });
       
-      const userData = response.data;
+      const { token, user: userData } = response.data;
       
-      // If successful, store user data in localStorage and update state
+      // If successful, store the token and user data in localStorage and update state
+      // (the apiClient interceptor sends the token with every following request)
+      localStorage.setItem('authToken', token);
       localStorage.setItem('userData', JSON.stringify(userData));
       setUser(userData);
       
       return { success: true };
 
     } catch (error) {
-      // If login fails, clear the stored credentials
-      localStorage.removeItem('userCredentials');
+      // If login fails, clear any stored token
+      localStorage.removeItem('authToken');
       console.error("Login failed:", error.response ? error.response.data : error.message);
       return { success: false, message: 'Invalid credentials' };
     }
@@ -52,7 +48,7 @@ export const AuthProvider = ({ children }) => {
     // Clear user from state and localStorage
     setUser(null);
     localStorage.removeItem('userData');
-    localStorage.removeItem('userCredentials');
+    localStorage.removeItem('authToken');
   };
 
   // The value provided to the consuming components